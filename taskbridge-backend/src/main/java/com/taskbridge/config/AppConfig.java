@@ -1,14 +1,75 @@
 package com.taskbridge.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @Configuration
 public class AppConfig {
 
+    // auth.hashing.cost pins the BCrypt cost; left at 0 it is calibrated at startup to the highest cost whose
+    // hash still fits the target latency on this machine. Existing hashes are upgraded as users log in.
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(
+            @Value("${auth.hashing.cost:0}") int cost,
+            @Value("${auth.hashing.target-ms:250}") long targetMillis,
+            @Value("${auth.hashing.min-cost:10}") int minCost,
+            @Value("${auth.hashing.max-cost:14}") int maxCost) {
+        int strength = cost > 0 ? cost : calibrateBcryptCost(targetMillis, minCost, maxCost);
+        System.out.println("Password hashing: BCrypt cost " + strength + (cost > 0 ? " (configured)" : " (calibrated)"));
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // Times the minimum cost (best of three, after a warm-up) and doubles from there, one step per cost level
+    static int calibrateBcryptCost(long targetMillis, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double millis = Math.max(best / 1e6, 0.1);
+        int cost = minCost;
+        while (cost < maxCost && millis * 2 <= targetMillis) {
+            millis *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    // Bounded pool for dashboard sub-queries; a full queue runs the query on the caller's thread.
+    // The decorator carries the request's SQL statement scope so the per-request count stays complete,
+    // and the read-your-writes flag so a user who just wrote is not served from a replica.
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${dashboard.executor.threads:8}") int threads,
+            @Value("${dashboard.executor.queue:200}") int queue) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queue);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> {
+            SqlStatementCounter.Scope scope = SqlStatementCounter.current();
+            boolean primaryOnly = ReplicaRoutingDataSource.isPrimaryOnly();
+            return () -> {
+                SqlStatementCounter.Scope previous = SqlStatementCounter.current();
+                boolean previousPrimaryOnly = ReplicaRoutingDataSource.isPrimaryOnly();
+                SqlStatementCounter.attach(scope);
+                ReplicaRoutingDataSource.primaryOnly(primaryOnly);
+                try {
+                    task.run();
+                } finally {
+                    SqlStatementCounter.attach(previous);
+                    ReplicaRoutingDataSource.primaryOnly(previousPrimaryOnly);
+                }
+            };
+        });
+        return executor;
     }
 }
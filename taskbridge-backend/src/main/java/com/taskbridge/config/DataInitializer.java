@@ -3,6 +3,7 @@ package com.taskbridge.config;
 import com.taskbridge.entity.Role;
 import com.taskbridge.entity.User;
 import com.taskbridge.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,9 +12,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class DataInitializer {
 
+    // Checked at run time rather than with @ConditionalOnProperty so AOT-processed builds can still toggle it
+    @Value("${app.seed.enabled:true}")
+    private boolean seedEnabled;
+
     @Bean
     CommandLineRunner initDatabase(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
+            if (!seedEnabled) {
+                return;
+            }
             // Seed base users if they don't exist
             seedUserIfAbsent(userRepository, passwordEncoder, "admin@test.com", "System Admin", "password", Role.ADMIN);
             seedUserIfAbsent(userRepository, passwordEncoder, "manager@test.com", "Lead Manager", "password",
@@ -0,0 +1,75 @@
+package com.taskbridge.config;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// The append-heavy entities moved from IDENTITY to pooled sequences. In prod the V3 migration seeds each
+// sequence past the highest id in use; a development database upgraded by ddl-auto=update gets fresh sequence
+// tables starting at 1, so with app.db.align-id-sequences this pushes them past the existing ids once the
+// context is up. Only MySQL is handled: Hibernate emulates sequences there with a one-row table (next_val),
+// and the embedded H2 profiles always start empty.
+@Component
+@Order(0)
+public class IdSequenceAligner implements ApplicationRunner {
+
+    // Must match allocationSize on the entities: the pooled optimizer hands out [value - 49, value]
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final Map<String, List<String>> SEQUENCES = Map.of(
+            "notification_seq", List.of("notification"),
+            "audit_log_seq", List.of("audit_log"),
+            "chat_message_seq", List.of("chat_message"),
+            "task_seq", List.of("task", "archived_task"));
+
+    @Autowired
+    private DataSource dataSource;
+
+    // Checked at run time rather than with @ConditionalOnProperty so AOT-processed builds can still toggle it
+    @Value("${app.db.align-id-sequences:false}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try (Connection c = dataSource.getConnection()) {
+            String product = c.getMetaData().getDatabaseProductName().toLowerCase();
+            if (!product.contains("mysql") && !product.contains("mariadb")) {
+                return;
+            }
+        } catch (Exception e) {
+            System.err.println("Id sequence alignment skipped: " + e.getMessage());
+            return;
+        }
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        SEQUENCES.forEach((sequence, tables) -> {
+            try {
+                long maxId = 0;
+                for (String table : tables) {
+                    Long max = jdbc.queryForObject("select max(id) from " + table, Long.class);
+                    maxId = Math.max(maxId, max != null ? max : 0);
+                }
+                if (maxId == 0) {
+                    return;
+                }
+                long target = maxId + ALLOCATION_SIZE + 1;
+                jdbc.update("update " + sequence + " set next_val = ? where next_val < ?", target, target);
+            } catch (Exception e) {
+                System.err.println("Id sequence alignment failed for " + sequence + ": " + e.getMessage());
+            }
+        });
+    }
+}
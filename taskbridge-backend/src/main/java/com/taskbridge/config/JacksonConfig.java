@@ -0,0 +1,38 @@
+package com.taskbridge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+// Response encodings. JSON stays the default; clients that send Accept: application/cbor or
+// application/x-jackson-smile get the binary form of the same document. All three mappers come from Boot's
+// builder so they share modules and settings, and each is built once so its serializer cache stays warm.
+@Configuration
+public class JacksonConfig {
+
+    // Boot registers Module beans on every mapper it builds. Blackbird swaps reflective getter calls for
+    // generated lambdas
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Same-typed beans replace the converters Spring MVC would otherwise build with a bare mapper.
+    // The builder is a prototype bean, so setting the factory here does not leak into the JSON mapper
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
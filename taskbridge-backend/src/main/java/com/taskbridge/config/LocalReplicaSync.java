@@ -0,0 +1,54 @@
+package com.taskbridge.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Stand-in for replication in the replica-local profile, where primary and replica are two separate
+// embedded H2 databases. Every replica.local.sync-ms the primary is scripted out and reloaded into each
+// replica, so the replicas trail the primary by up to one interval, like an asynchronous replica would.
+// A replica is out of rotation while it reloads.
+@Component
+@Profile("replica-local")
+public class LocalReplicaSync {
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Scheduled(fixedDelayString = "${replica.local.sync-ms:2000}", initialDelayString = "${replica.local.sync-ms:2000}")
+    public void sync() {
+        Path script = null;
+        try {
+            script = Files.createTempFile("taskbridge-replica", ".sql");
+            String file = script.toAbsolutePath().toString().replace("'", "''");
+            try (Connection c = routing.primary().getConnection(); Statement st = c.createStatement()) {
+                st.execute("SCRIPT TO '" + file + "'");
+            }
+            for (int i = 0; i < routing.replicaCount(); i++) {
+                routing.setAvailable(i, false);
+                try (Connection c = routing.replica(i).getConnection(); Statement st = c.createStatement()) {
+                    st.execute("DROP ALL OBJECTS");
+                    st.execute("RUNSCRIPT FROM '" + file + "'");
+                } finally {
+                    routing.setAvailable(i, true);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Local replica sync failed: " + e.getMessage());
+        } finally {
+            if (script != null) {
+                try {
+                    Files.deleteIfExists(script);
+                } catch (java.io.IOException ignored) {
+                    // temp file, cleaned up by the OS otherwise
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskbridge.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Flyway (enabled in the prod profile) migrates the schema before JPA starts. The CDS training run sets
+// app.db.migrate-on-start=false so it can refresh the context without a database; checked at run time
+// rather than with @ConditionalOnProperty because AOT freezes conditions at build time.
+@Configuration
+public class MigrationConfig {
+
+    @Value("${app.db.migrate-on-start:true}")
+    private boolean migrateOnStart;
+
+    @Bean
+    FlywayMigrationStrategy migrationStrategy() {
+        return flyway -> {
+            if (migrateOnStart) {
+                flyway.migrate();
+            } else {
+                System.out.println("Schema migrations skipped (app.db.migrate-on-start=false)");
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.taskbridge.config;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskbridge.entity.ChatMessage;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskCategory;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ChatMessageRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.repository.UserRepository;
+
+// Seeds the embedded perf database. Accounts are user<N>@load.test / manager<N>@load.test, password "password".
+@Configuration
+@Profile("perf")
+public class PerfDataGenerator {
+
+    private static final String[] STATUSES = { "PENDING", "PENDING", "IN_PROGRESS", "COMPLETED", "COMPLETED",
+            "COMPLETED", "REJECTED" };
+
+    @Value("${perf.seed.users:2000}")
+    private int userCount;
+
+    @Value("${perf.seed.managers:100}")
+    private int managerCount;
+
+    @Value("${perf.seed.tasks:50000}")
+    private int taskCount;
+
+    @Value("${perf.seed.messages:20000}")
+    private int messageCount;
+
+    @Value("${perf.seed.notifications:100000}")
+    private int notificationCount;
+
+    @Value("${perf.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Bean
+    @Order(10)
+    CommandLineRunner seedPerfData(UserRepository userRepo, TaskRepository taskRepo,
+            ChatMessageRepository messageRepo, NotificationRepository notificationRepo, PasswordEncoder encoder) {
+        return args -> {
+            long start = System.currentTimeMillis();
+            Random random = new Random(42);
+            // One hash shared by every seeded account; hashing each one would dominate seeding time
+            String password = encoder.encode("password");
+
+            List<User> users = new ArrayList<>();
+            List<User> managers = new ArrayList<>();
+            for (int i = 0; i < userCount + managerCount; i++) {
+                boolean manager = i < managerCount;
+                User u = new User();
+                u.setName((manager ? "Manager " : "User ") + i);
+                u.setEmail((manager ? "manager" + i : "user" + (i - managerCount)) + "@load.test");
+                u.setPassword(password);
+                u.setRole(manager ? Role.MANAGER : Role.USER);
+                (manager ? managers : users).add(u);
+            }
+            saveInBatches(managers, userRepo::saveAll);
+            saveInBatches(users, userRepo::saveAll);
+
+            TaskPriority[] priorities = TaskPriority.values();
+            TaskCategory[] categories = TaskCategory.values();
+            List<Task> tasks = new ArrayList<>(batchSize);
+            for (int i = 0; i < taskCount; i++) {
+                Task t = new Task();
+                t.setTitle("Load task " + i);
+                t.setDescription("Generated task body " + i + " for performance testing.");
+                t.setPriority(priorities[random.nextInt(priorities.length)]);
+                t.setCategory(categories[random.nextInt(categories.length)]);
+                t.setDeadline(LocalDateTime.now().plusDays(random.nextInt(30)).withNano(0).toString());
+                t.setAssignedBy(users.get(random.nextInt(users.size())));
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                t.setStatus(status);
+                if (!"PENDING".equals(status) || random.nextBoolean()) {
+                    t.setAssignedTo(managers.get(random.nextInt(managers.size())));
+                    t.setAssignedAt(LocalDateTime.now().minusDays(random.nextInt(60)));
+                }
+                if ("IN_PROGRESS".equals(status) || "COMPLETED".equals(status)) {
+                    t.setStartedAt(LocalDateTime.now().minusDays(random.nextInt(30)).minusHours(8));
+                }
+                if ("COMPLETED".equals(status)) {
+                    t.setCompletedAt(t.getStartedAt().plusHours(1 + random.nextInt(48)));
+                }
+                tasks.add(t);
+                if (tasks.size() == batchSize) {
+                    taskRepo.saveAll(tasks);
+                    tasks.clear();
+                }
+            }
+            taskRepo.saveAll(tasks);
+
+            List<ChatMessage> messages = new ArrayList<>(batchSize);
+            for (int i = 0; i < messageCount; i++) {
+                User u = users.get(random.nextInt(users.size()));
+                ChatMessage m = new ChatMessage();
+                boolean fromUser = i % 2 == 0;
+                m.setSender(fromUser ? u : null);
+                m.setReceiver(fromUser ? null : u);
+                m.setType(fromUser ? "sent" : "received");
+                m.setContent("Generated chat message " + i);
+                messages.add(m);
+                if (messages.size() == batchSize) {
+                    messageRepo.saveAll(messages);
+                    messages.clear();
+                }
+            }
+            messageRepo.saveAll(messages);
+
+            List<Notification> notifications = new ArrayList<>(batchSize);
+            for (int i = 0; i < notificationCount; i++) {
+                Notification n = new Notification();
+                n.setUser(users.get(random.nextInt(users.size())));
+                n.setTitle("Generated notification");
+                n.setMessage("Notification body " + i);
+                n.setRead(random.nextInt(4) != 0);
+                notifications.add(n);
+                if (notifications.size() == batchSize) {
+                    notificationRepo.saveAll(notifications);
+                    notifications.clear();
+                }
+            }
+            notificationRepo.saveAll(notifications);
+
+            System.out.println("Perf seed: " + (userCount + managerCount) + " users, " + taskCount + " tasks, "
+                    + messageCount + " messages, " + notificationCount + " notifications in "
+                    + (System.currentTimeMillis() - start) + " ms");
+        };
+    }
+
+    private <T> void saveInBatches(List<T> items, Consumer<List<T>> saver) {
+        for (int i = 0; i < items.size(); i += batchSize) {
+            saver.accept(items.subList(i, Math.min(items.size(), i + batchSize)));
+        }
+    }
+}
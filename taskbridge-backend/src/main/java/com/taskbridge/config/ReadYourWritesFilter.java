@@ -0,0 +1,50 @@
+package com.taskbridge.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Runs after the security chain. Any non-GET request counts as a write by the caller; for the next
+// datasource.replicas.sticky-ms that user's reads stay on the primary so they see their own changes.
+@Component
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String user = auth != null && auth.isAuthenticated() ? auth.getName() : null;
+        boolean write = !isRead(request.getMethod());
+        if (user != null && write) {
+            routing.recordWrite(user);
+        }
+        ReplicaRoutingDataSource.primaryOnly(user != null && routing.isSticky(user));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.primaryOnly(false);
+            // Restart the window once the write has committed, so a slow request still gets the full window
+            if (user != null && write) {
+                routing.recordWrite(user);
+            }
+        }
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
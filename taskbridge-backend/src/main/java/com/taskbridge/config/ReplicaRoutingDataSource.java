@@ -0,0 +1,275 @@
+package com.taskbridge.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Sends read-only transactions to a healthy replica and everything else to the primary.
+// A replica is used only while its heartbeat lag is under max-lag; a user who wrote recently
+// (see ReadYourWritesFilter) stays on the primary for the sticky window, and a replica that
+// fails to hand out a connection is taken out of rotation and the read falls back to the primary.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // Set per request (and carried onto dashboard threads) when the caller must read its own writes
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final Replica[] state;
+    private final long maxLagMillis;
+    private final long stickyMillis;
+    private final Map<String, Long> lastWrite = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private LongSupplier clock = System::currentTimeMillis;
+    private boolean heartbeatReady;
+
+    private Counter toPrimary;
+    private Counter toReplica;
+    private Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, long maxLagMillis, long stickyMillis) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagMillis = maxLagMillis;
+        this.stickyMillis = stickyMillis;
+        this.state = new Replica[replicas.size()];
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            state[i] = new Replica(i);
+            targets.put(state[i].key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public void bindMetrics(MeterRegistry registry) {
+        toPrimary = Counter.builder("taskbridge.datasource.reads").tag("target", "primary").register(registry);
+        toReplica = Counter.builder("taskbridge.datasource.reads").tag("target", "replica").register(registry);
+        fallbacks = Counter.builder("taskbridge.datasource.fallbacks")
+                .description("Replica connections that failed and were served by the primary")
+                .register(registry);
+        for (Replica replica : state) {
+            Gauge.builder("taskbridge.datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("replica", replica.key).baseUnit("milliseconds").register(registry);
+            Gauge.builder("taskbridge.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.key).register(registry);
+        }
+    }
+
+    public static void primaryOnly(boolean value) {
+        if (value) {
+            PRIMARY_ONLY.set(Boolean.TRUE);
+        } else {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    public static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+
+    public void recordWrite(String user) {
+        lastWrite.put(user, clock.getAsLong());
+    }
+
+    public boolean isSticky(String user) {
+        Long at = lastWrite.get(user);
+        return at != null && clock.getAsLong() - at < stickyMillis;
+    }
+
+    DataSource primary() {
+        return primary;
+    }
+
+    DataSource replica(int index) {
+        return replicas.get(index);
+    }
+
+    int replicaCount() {
+        return replicas.size();
+    }
+
+    // Used by the local replica sync to hide a replica while it is being reloaded
+    public void setAvailable(int replica, boolean available) {
+        state[replica].paused = !available;
+        state[replica].refresh(maxLagMillis);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        Replica replica = isPrimaryOnly() ? null : pick();
+        if (replica == null) {
+            count(toPrimary);
+            return PRIMARY;
+        }
+        count(toReplica);
+        return replica.key;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        Replica replica = byKey(key);
+        try {
+            return replicas.get(replica.index).getConnection();
+        } catch (SQLException e) {
+            replica.down = true;
+            replica.refresh(maxLagMillis);
+            count(fallbacks);
+            System.err.println("Replica " + replica.key + " unavailable, reading from primary: " + e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    // Round-robin over replicas that are up and within the lag budget
+    private Replica pick() {
+        int n = state.length;
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(n, 1));
+        for (int i = 0; i < n; i++) {
+            Replica candidate = state[(start + i) % n];
+            if (candidate.available) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // Writes a heartbeat on the primary and measures how far behind each replica's copy of it is
+    @Scheduled(fixedDelayString = "${datasource.replicas.check-ms:1000}", initialDelayString = "${datasource.replicas.check-ms:1000}")
+    public void checkReplicas() {
+        long now = clock.getAsLong();
+        try (Connection c = primary.getConnection()) {
+            if (!heartbeatReady) {
+                ensureHeartbeatTable(c);
+                heartbeatReady = true;
+            }
+            try (PreparedStatement ps = c.prepareStatement("update replica_heartbeat set beat = ? where id = 1")) {
+                ps.setLong(1, now);
+                if (ps.executeUpdate() == 0) {
+                    try (PreparedStatement insert = c.prepareStatement("insert into replica_heartbeat (id, beat) values (1, ?)")) {
+                        insert.setLong(1, now);
+                        insert.executeUpdate();
+                    }
+                }
+            }
+            if (!c.getAutoCommit()) {
+                c.commit();
+            }
+        } catch (SQLException e) {
+            System.err.println("Replica heartbeat failed on primary: " + e.getMessage());
+            return;
+        }
+        for (int i = 0; i < state.length; i++) {
+            Replica replica = state[i];
+            try (Connection c = replicas.get(i).getConnection();
+                    Statement st = c.createStatement();
+                    ResultSet rs = st.executeQuery("select beat from replica_heartbeat where id = 1")) {
+                replica.lagMillis = rs.next() ? Math.max(0, now - rs.getLong(1)) : Long.MAX_VALUE;
+                replica.down = false;
+            } catch (SQLException e) {
+                replica.lagMillis = Long.MAX_VALUE;
+                replica.down = true;
+            }
+            boolean wasAvailable = replica.available;
+            replica.refresh(maxLagMillis);
+            if (wasAvailable != replica.available) {
+                System.out.println("Replica " + replica.key + (replica.available ? " back in rotation" : " out of rotation")
+                        + " (lag " + (replica.lagMillis == Long.MAX_VALUE ? "unknown" : replica.lagMillis + " ms") + ")");
+            }
+        }
+        lastWrite.values().removeIf(at -> now - at >= stickyMillis);
+    }
+
+    private static void ensureHeartbeatTable(Connection c) throws SQLException {
+        try (Statement st = c.createStatement()) {
+            st.execute("create table if not exists replica_heartbeat (id int primary key, beat bigint not null)");
+        }
+    }
+
+    private Replica byKey(Object key) {
+        for (Replica replica : state) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("Unknown data source " + key);
+    }
+
+    private static void count(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    void setClock(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        close(primary);
+        for (DataSource replica : replicas) {
+            close(replica);
+        }
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Replica {
+        final int index;
+        final String key;
+        // Unknown until the first heartbeat check, so reads start on the primary
+        volatile long lagMillis = Long.MAX_VALUE;
+        volatile boolean down;
+        volatile boolean paused;
+        volatile boolean available;
+
+        Replica(int index) {
+            this.index = index;
+            this.key = "replica-" + index;
+        }
+
+        void refresh(long maxLagMillis) {
+            available = !down && !paused && lagMillis <= maxLagMillis;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskbridge.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Registered with Hibernate via hibernate.session_factory.statement_inspector.
+// Counts every SQL statement prepared while a scope is open on the current thread.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    public static Scope begin() {
+        Scope scope = new Scope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    // Lets work handed to another thread count against the request that started it
+    public static void attach(Scope scope) {
+        if (scope == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static class Scope {
+        private final AtomicInteger count = new AtomicInteger();
+        private final Map<String, AtomicInteger> byStatement = new ConcurrentHashMap<>();
+
+        void record(String sql) {
+            count.incrementAndGet();
+            byStatement.computeIfAbsent(sql.trim(), k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public Map<String, Integer> getStatements() {
+            return byStatement.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+        }
+
+        // Identical statements issued at least `threshold` times are the usual signature of N+1 loading
+        public Map<String, Integer> getRepeated(int threshold) {
+            return byStatement.entrySet().stream()
+                    .filter(e -> e.getValue().get() >= threshold)
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+        }
+    }
+}
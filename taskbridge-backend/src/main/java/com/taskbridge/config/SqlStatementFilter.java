@@ -0,0 +1,73 @@
+package com.taskbridge.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Opens a SqlStatementCounter scope around each request, reports the total in X-SQL-Statements
+// and logs requests that go over budget or repeat the same statement.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statements";
+
+    @Value("${sql.budget.warn-above:20}")
+    private int warnAbove;
+
+    @Value("${sql.budget.repeat-threshold:3}")
+    private int repeatThreshold;
+
+    @Value("${sql.budget.log-all:false}")
+    private boolean logAll;
+
+    private final DistributionSummary statementsPerRequest;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry) {
+        this.statementsPerRequest = DistributionSummary.builder("taskbridge.sql.statements.per.request")
+                .description("SQL statements issued while serving one HTTP request")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end();
+            int count = scope.getCount();
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, String.valueOf(count));
+            }
+            statementsPerRequest.record(count);
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        int count = scope.getCount();
+        Map<String, Integer> repeated = scope.getRepeated(repeatThreshold);
+        String route = request.getMethod() + " " + request.getRequestURI();
+        if (count > warnAbove || !repeated.isEmpty()) {
+            System.out.println("SQL BUDGET: " + route + " issued " + count + " statements (budget " + warnAbove + ")");
+            repeated.forEach((sql, n) -> System.out.println("  possible N+1 (" + n + "x): " + sql));
+        } else if (logAll) {
+            System.out.println("SQL: " + route + " issued " + count + " statements");
+        }
+    }
+}
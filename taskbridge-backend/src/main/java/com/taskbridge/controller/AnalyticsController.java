@@ -0,0 +1,42 @@
+package com.taskbridge.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskbridge.service.TaskRollupService;
+
+@RestController
+@RequestMapping("/admin/analytics")
+@CrossOrigin
+public class AnalyticsController {
+
+    @Autowired
+    private TaskRollupService rollupService;
+
+    // Task activity between two dates (inclusive), read from the rollup buckets only.
+    // Defaults to the last 30 days in daily buckets.
+    @GetMapping
+    public ResponseEntity<?> getAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String bucket) {
+        if (!"day".equals(bucket) && !"hour".equals(bucket)) {
+            return ResponseEntity.badRequest().body("bucket must be day or hour");
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body("from must not be after to");
+        }
+        return ResponseEntity.ok(rollupService.analytics(start.atStartOfDay(), end.plusDays(1).atStartOfDay(),
+                "hour".equals(bucket)));
+    }
+}
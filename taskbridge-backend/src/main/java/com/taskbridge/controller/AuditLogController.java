@@ -1,24 +1,41 @@
 package com.taskbridge.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.taskbridge.entity.AuditLog;
-import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.service.AuditLogService;
 
+// Spans the audit_log table and the sealed cold segments; from/to/action narrow the search and let whole
+// segments be skipped
 @RestController
 @RequestMapping("/admin/logs")
 @CrossOrigin
 public class AuditLogController {
 
     @Autowired
-    private AuditLogRepository auditLogRepo;
+    private AuditLogService auditLogService;
+
+    @Value("${audit.query.default-limit:1000}")
+    private int defaultLimit;
+
+    @Value("${audit.query.max-limit:10000}")
+    private int maxLimit;
 
     @GetMapping
-    public List<AuditLog> getLogs() {
-        return auditLogRepo.findAllByOrderByTimestampDesc();
+    public List<AuditLog> getLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Integer limit) {
+        int size = limit != null ? Math.max(1, Math.min(limit, maxLimit)) : defaultLimit;
+        return auditLogService.search(from, to, action != null && !action.isBlank() ? action : null, size);
     }
 }
@@ -1,7 +1,6 @@
 package com.taskbridge.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import com.taskbridge.entity.User;
@@ -9,6 +8,8 @@ import com.taskbridge.repository.UserRepository;
 import com.taskbridge.security.JwtResponse;
 import com.taskbridge.security.JwtUtil;
 import com.taskbridge.security.LoginRequest;
+import com.taskbridge.security.OtpStore;
+import com.taskbridge.security.PasswordHashingService;
 
 @RestController
 @RequestMapping("/auth")
@@ -19,18 +20,37 @@ public class AuthController {
     private UserRepository userRepo;
 
     @Autowired
-    private PasswordEncoder encoder;
+    private PasswordHashingService hasher;
+
+    @Autowired
+    private OtpStore otpStore;
+
+    @Autowired
+    private com.taskbridge.security.TokenRevocations revocations;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private com.taskbridge.security.RefreshTokens refreshTokens;
+
+    @Autowired
+    private com.taskbridge.service.UserDirectory directory;
+
+    // Hashing is shed when its queue is full; tell the client to back off briefly
+    @ExceptionHandler(PasswordHashingService.OverloadedException.class)
+    public org.springframework.http.ResponseEntity<String> hashingOverloaded(
+            PasswordHashingService.OverloadedException e) {
+        return org.springframework.http.ResponseEntity.status(503).header("Retry-After", "1").body(e.getMessage());
+    }
+
     @PostMapping("/register")
     public String register(@RequestBody User user) {
         String normalizedEmail = user.getEmail() != null ? user.getEmail().trim().toLowerCase() : "";
         System.out.println("REGISTER REQUEST: " + normalizedEmail + " | Role: " + user.getRole());
         user.setEmail(normalizedEmail);
-        user.setPassword(encoder.encode(user.getPassword()));
-        userRepo.save(user);
+        user.setPassword(hasher.encode(user.getPassword()));
+        directory.put(userRepo.save(user));
         return "User Registered Successfully";
     }
 
@@ -39,10 +59,7 @@ public class AuthController {
         String email = request.getEmail() != null ? request.getEmail().trim().toLowerCase() : "";
         System.out.println("LOGIN REQUEST: " + email);
 
-        // Fetch all users and find matching email case-insensitively
-        java.util.Optional<User> userOpt = userRepo.findAll().stream()
-                .filter(u -> u.getEmail().trim().equalsIgnoreCase(email))
-                .findFirst();
+        java.util.Optional<User> userOpt = userRepo.findByEmailIgnoreCase(email);
 
         if (userOpt.isEmpty()) {
             return org.springframework.http.ResponseEntity.status(401).body("User not found");
@@ -50,13 +67,58 @@ public class AuthController {
 
         User user = userOpt.get();
 
-        if (!encoder.matches(request.getPassword(), user.getPassword())) {
+        if (!hasher.matches(request.getPassword(), user.getPassword())) {
             return org.springframework.http.ResponseEntity.status(401).body("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        // Hashes made at an older, cheaper cost are upgraded transparently while we have the password
+        if (hasher.needsRehash(user.getPassword())) {
+            String oldHash = user.getPassword();
+            hasher.rehashAsync(request.getPassword(),
+                    newHash -> userRepo.replacePasswordHash(user.getId(), oldHash, newHash));
+        }
+
+        if (user.isSuspended()) {
+            return org.springframework.http.ResponseEntity.status(403).body("Account suspended");
+        }
+
         String role = user.getRole() != null ? user.getRole().name() : "USER";
-        return org.springframework.http.ResponseEntity.ok(new JwtResponse(token, role));
+        return org.springframework.http.ResponseEntity
+                .ok(new JwtResponse(jwtUtil.generateToken(user), role, refreshTokens.issue(user)));
+    }
+
+    // Trades a refresh token for a new access token and the next refresh token. The user is re-read here (the
+    // only lookup in the token lifecycle), so role changes apply, suspended or deleted users are refused and a
+    // password reset invalidates every refresh token issued before it.
+    @PostMapping("/refresh")
+    public org.springframework.http.ResponseEntity<?> refresh(@RequestBody java.util.Map<String, String> request) {
+        io.jsonwebtoken.Claims claims;
+        try {
+            claims = jwtUtil.parse(request.getOrDefault("refreshToken", ""));
+        } catch (Exception e) {
+            return org.springframework.http.ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        Long userId = claims.get("uid", Long.class);
+        if (!com.taskbridge.security.JwtUtil.TYPE_REFRESH.equals(claims.get("typ", String.class)) || userId == null) {
+            return org.springframework.http.ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        User user = userRepo.findById(userId).orElse(null);
+        if (user == null || !user.getEmail().equalsIgnoreCase(claims.getSubject())) {
+            return org.springframework.http.ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        if (user.isSuspended()) {
+            return org.springframework.http.ResponseEntity.status(403).body("Account suspended");
+        }
+        Integer version = claims.get("ver", Integer.class);
+        if (version == null || version != user.getTokenVersion()) {
+            return org.springframework.http.ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        String next = refreshTokens.rotate(user, claims);
+        if (next == null) {
+            return org.springframework.http.ResponseEntity.status(401).body("Invalid refresh token");
+        }
+        String role = user.getRole() != null ? user.getRole().name() : "USER";
+        return org.springframework.http.ResponseEntity.ok(new JwtResponse(jwtUtil.generateToken(user), role, next));
     }
 
     @PostMapping("/forgot-password")
@@ -75,11 +137,12 @@ public class AuthController {
             return org.springframework.http.ResponseEntity.status(404).body("User not found with email: " + email);
         }
 
-        String otp = String.format("%06d", new java.util.Random().nextInt(999999));
-        User user = userOpt.get();
-        user.setOtp(otp);
-        user.setOtpExpiry(java.time.LocalDateTime.now().plusMinutes(15));
-        userRepo.save(user);
+        String otp;
+        try {
+            otp = otpStore.issue(userOpt.get().getEmail().toLowerCase());
+        } catch (IllegalStateException e) {
+            return org.springframework.http.ResponseEntity.status(503).body(e.getMessage());
+        }
 
         return org.springframework.http.ResponseEntity
                 .ok(java.util.Map.of(
@@ -112,9 +175,7 @@ public class AuthController {
                     .body("Email, OTP, and new password are required");
         }
 
-        java.util.Optional<User> userOpt = userRepo.findAll().stream()
-                .filter(u -> u.getEmail().trim().equalsIgnoreCase(email))
-                .findFirst();
+        java.util.Optional<User> userOpt = userRepo.findByEmailIgnoreCase(email);
 
         if (userOpt.isEmpty()) {
             return org.springframework.http.ResponseEntity.status(404).body("User not found");
@@ -122,19 +183,23 @@ public class AuthController {
 
         User user = userOpt.get();
 
-        // Verify OTP
-        if (user.getOtp() == null || !user.getOtp().equals(otp)) {
-            return org.springframework.http.ResponseEntity.status(401).body("Invalid OTP");
-        }
-
-        if (user.getOtpExpiry() == null || user.getOtpExpiry().isBefore(java.time.LocalDateTime.now())) {
-            return org.springframework.http.ResponseEntity.status(401).body("OTP has expired");
+        // Verify OTP (consumed on success, burned after too many wrong guesses)
+        switch (otpStore.verify(user.getEmail().toLowerCase(), otp)) {
+            case OK:
+                break;
+            case EXPIRED:
+                return org.springframework.http.ResponseEntity.status(401).body("OTP has expired");
+            case TOO_MANY_ATTEMPTS:
+                return org.springframework.http.ResponseEntity.status(401)
+                        .body("Too many invalid attempts, please request a new code");
+            default:
+                return org.springframework.http.ResponseEntity.status(401).body("Invalid OTP");
         }
 
-        user.setPassword(encoder.encode(newPassword));
-        user.setOtp(null); // Clear OTP after use
-        user.setOtpExpiry(null);
+        user.setPassword(hasher.encode(newPassword));
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepo.save(user);
+        revocations.revokeAccessTokens(user.getId());
 
         return org.springframework.http.ResponseEntity.ok("Password reset successfully!");
     }
@@ -0,0 +1,115 @@
+package com.taskbridge.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbridge.security.RateLimitFilter;
+import com.taskbridge.security.RateLimitSettings;
+import com.taskbridge.security.RateLimiter;
+import com.taskbridge.service.ChatHub;
+import com.taskbridge.service.ChatService;
+
+import jakarta.websocket.Session;
+
+// /ws/chat: the client sends {"content": "..."}; the server pushes each stored message and its bot reply as a
+// JSON array of ChatMessage, the same shape GET /messages returns. Errors come back as {"error": "..."}.
+@Component
+public class ChatSocketHandler extends TextWebSocketHandler {
+
+    @Autowired
+    private ChatHub hub;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitSettings rateLimitSettings;
+
+    @Value("${chat.ws.max-message-bytes:16384}")
+    private int maxMessageBytes;
+
+    @Value("${chat.ws.idle-timeout-ms:600000}")
+    private long idleTimeout;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // Caps what one inbound frame can make the container buffer, and drops idle sockets
+        session.setTextMessageSizeLimit(maxMessageBytes);
+        session.setBinaryMessageSizeLimit(1024);
+        if (session instanceof NativeWebSocketSession nativeSession
+                && nativeSession.getNativeSession(Session.class) != null) {
+            nativeSession.getNativeSession(Session.class).setMaxIdleTimeout(idleTimeout);
+        }
+        if (hub.register(userId(session), session) == null) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Too many chat connections"));
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        String email = (String) session.getAttributes().get(ChatHub.EMAIL);
+        // Frames skip the HTTP filter chain; charge them to the same write bucket as POST /messages
+        if (rateLimitSettings.isEnabled()) {
+            String routeClass = RateLimitFilter.WRITE;
+            long retryAfter = rateLimiter.tryAcquire(routeClass, "user:" + email,
+                    rateLimitSettings.perMinute(routeClass), rateLimitSettings.capacity(routeClass));
+            if (retryAfter > 0) {
+                error(session, "Too many messages, retry in " + retryAfter + "s");
+                return;
+            }
+        }
+        String content;
+        try {
+            JsonNode node = mapper.readTree(message.getPayload());
+            content = node.path("content").asText("");
+        } catch (Exception e) {
+            error(session, "Malformed message");
+            return;
+        }
+        try {
+            chatService.send(email, content);
+        } catch (IllegalArgumentException e) {
+            error(session, e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Chat send failed: " + e.getMessage());
+            error(session, "Message could not be sent");
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        hub.unregister(userId(session), session.getId());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        hub.unregister(userId(session), session.getId());
+    }
+
+    private void error(WebSocketSession session, String text) throws Exception {
+        WebSocketSession target = hub.session(userId(session), session.getId());
+        if (target != null) {
+            hub.send(userId(session), target, new TextMessage(mapper.writeValueAsString(Map.of("error", text))));
+        }
+    }
+
+    private static Long userId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(ChatHub.USER_ID);
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskbridge.controller;
+
+import java.security.Principal;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskbridge.entity.User;
+import com.taskbridge.service.DashboardService;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping("/manager")
+    public Map<String, Object> managerDashboard(@RequestParam(defaultValue = "true") boolean finance,
+            Principal principal) {
+        User manager = dashboardService.caller(principal.getName());
+        return dashboardService.managerDashboard(manager, finance);
+    }
+
+    @GetMapping("/user")
+    public Map<String, Object> userDashboard(Principal principal) {
+        User user = dashboardService.caller(principal.getName());
+        return dashboardService.userDashboard(user);
+    }
+}
@@ -1,64 +1,37 @@
 package com.taskbridge.controller;
 
 import com.taskbridge.entity.ChatMessage;
-import com.taskbridge.entity.User;
-import com.taskbridge.entity.Notification;
-import com.taskbridge.repository.ChatMessageRepository;
-import com.taskbridge.repository.UserRepository;
-import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.service.ChatService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import com.taskbridge.service.SupportAiService;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
+// Live delivery is over /ws/chat (ChatSocketHandler); these stay for clients without a socket and for catching
+// up after a reconnect with ?since=<timestamp of the last message seen>
 @RestController
 @RequestMapping("/messages")
 public class MessageController {
 
     @Autowired
-    private ChatMessageRepository messageRepo;
-
-    @Autowired
-    private UserRepository userRepo;
-
-    @Autowired
-    private NotificationRepository notificationRepo;
-
-    @Autowired
-    private SupportAiService supportAiService;
-
-    private void createNotification(User user, String title, String message) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notificationRepo.save(notification);
-    }
+    private ChatService chatService;
 
     @GetMapping
-    public List<ChatMessage> getMessages(Principal principal) {
-        User user = userRepo.findByEmail(principal.getName()).orElseThrow();
-        return messageRepo.findBySenderOrReceiverOrderByTimestampAsc(user, user);
+    public List<ChatMessage> getMessages(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            Principal principal) {
+        return chatService.history(principal.getName(), since);
     }
 
     @PostMapping
-    public ChatMessage sendMessage(@RequestBody ChatMessage message, Principal principal) {
-        User sender = userRepo.findByEmail(principal.getName()).orElseThrow();
-        message.setSender(sender);
-        message.setType("sent");
-        ChatMessage saved = messageRepo.save(message);
-
-        // AI Bot Reply
-        ChatMessage botReply = new ChatMessage();
-        String botContent = supportAiService.generateResponse(message.getContent());
-        botReply.setContent(botContent);
-        botReply.setReceiver(sender);
-        botReply.setType("received");
-        messageRepo.save(botReply);
-
-        createNotification(sender, "New Support Message", "The Support Bot has replied to your query.");
-
-        return saved;
+    public ResponseEntity<?> sendMessage(@RequestBody ChatMessage message, Principal principal) {
+        try {
+            return ResponseEntity.ok(chatService.send(principal.getName(), message.getContent()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 }
@@ -1,14 +1,18 @@
 package com.taskbridge.controller;
 
 import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
 import com.taskbridge.entity.User;
 import com.taskbridge.repository.NotificationRepository;
 import com.taskbridge.repository.UserRepository;
+import com.taskbridge.service.BroadcastService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.security.Principal;
 import java.util.List;
 
+// Personal notifications plus the broadcasts addressed to the caller's role; broadcasts carry negative ids
 @RestController
 @RequestMapping("/notifications")
 public class NotificationController {
@@ -19,22 +23,71 @@ public class NotificationController {
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private BroadcastService broadcastService;
+
     @GetMapping
     public List<Notification> getNotifications(Principal principal) {
         User user = userRepo.findByEmail(principal.getName()).orElseThrow();
-        return notificationRepo.findByUserOrderByTimestampDesc(user);
+        return broadcastService.feed(user);
     }
 
     @GetMapping("/unread-count")
     public long getUnreadCount(Principal principal) {
         User user = userRepo.findByEmail(principal.getName()).orElseThrow();
-        return notificationRepo.countByUserAndIsRead(user, false);
+        return broadcastService.unreadCount(user);
     }
 
     @PutMapping("/{id}/read")
-    public void markAsRead(@PathVariable Long id) {
-        Notification notification = notificationRepo.findById(id).orElseThrow();
-        notification.setRead(true); // Lombok handles boolean isRead with setRead
-        notificationRepo.save(notification);
+    public ResponseEntity<?> markAsRead(@PathVariable Long id, Principal principal) {
+        User user = userRepo.findByEmail(principal.getName()).orElseThrow();
+        if (id < 0) {
+            try {
+                if (!broadcastService.markRead(-id, user)) {
+                    return ResponseEntity.notFound().build();
+                }
+            } catch (org.springframework.dao.ConcurrencyFailureException
+                    | org.springframework.dao.DataIntegrityViolationException e) {
+                // Still contended after every retry; the client can simply try again
+                return ResponseEntity.status(503).header("Retry-After", "1").build();
+            }
+        } else if (notificationRepo.markRead(id, user) == 0) {
+            // Unknown id or someone else's notification
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    // Marks every unread notification of the caller as read in one statement.
+    // upToId bounds the update to what the client has actually seen; broadcasts are all marked.
+    @PutMapping("/read-all")
+    public java.util.Map<String, Integer> markAllAsRead(@RequestParam(required = false) Long upToId,
+            Principal principal) {
+        User user = userRepo.findByEmail(principal.getName()).orElseThrow();
+        int updated = notificationRepo.markAllReadUpTo(user, upToId != null ? upToId : Long.MAX_VALUE);
+        updated += broadcastService.markAllRead(user);
+        return java.util.Map.of("updated", updated);
+    }
+
+    // Admin only. audience is a role name; omit it to reach everyone.
+    @PostMapping("/broadcast")
+    public ResponseEntity<?> broadcast(@RequestBody java.util.Map<String, String> body, Principal principal) {
+        User admin = userRepo.findByEmail(principal.getName()).orElseThrow();
+        if (admin.getRole() != Role.ADMIN) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        String title = body.get("title");
+        String message = body.get("message");
+        if (title == null || title.isBlank() || message == null || message.isBlank()) {
+            return ResponseEntity.badRequest().body("title and message are required");
+        }
+        Role audience;
+        try {
+            audience = body.get("audience") != null && !body.get("audience").isBlank()
+                    ? Role.valueOf(body.get("audience").trim().toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown audience: " + body.get("audience"));
+        }
+        return ResponseEntity.ok(broadcastService.broadcast(audience, title, message));
     }
 }
@@ -0,0 +1,55 @@
+package com.taskbridge.controller;
+
+import java.security.Principal;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.UserRepository;
+import com.taskbridge.service.TaskEventProjector;
+
+@RestController
+@RequestMapping("/admin/projections")
+@CrossOrigin
+public class ProjectionController {
+
+    @Autowired
+    private TaskEventProjector projector;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @GetMapping
+    public ResponseEntity<?> getProjections(Principal principal) {
+        User admin = userRepo.findByEmail(principal.getName()).orElseThrow();
+        if (admin.getRole() != Role.ADMIN) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        return ResponseEntity.ok(projector.status());
+    }
+
+    // Clears a read model and replays the event stream into it
+    @PostMapping("/{name}/rebuild")
+    public ResponseEntity<?> rebuild(@PathVariable String name, Principal principal) {
+        User admin = userRepo.findByEmail(principal.getName()).orElseThrow();
+        if (admin.getRole() != Role.ADMIN) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        try {
+            long replayed = projector.rebuild(name);
+            return ResponseEntity.ok(Map.of("name", name, "replayed", replayed,
+                    "position", projector.position(name)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(e.getMessage());
+        }
+    }
+}
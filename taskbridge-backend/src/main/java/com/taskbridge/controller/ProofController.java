@@ -0,0 +1,227 @@
+package com.taskbridge.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.Principal;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.taskbridge.service.ProofStore;
+import com.taskbridge.service.TaskWorkflowService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Completion proof files. Multipart parts are spooled to disk by the container (file-size-threshold=0) and
+// streamed from there into ProofStore. Downloads honour single byte ranges and are handed to Tomcat's
+// sendfile, so the file goes from the page cache to the socket without passing through the JVM.
+@RestController
+@RequestMapping("/tasks/{id}/proof")
+@CrossOrigin
+public class ProofController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Served inline with their own type; anything else is sent as an opaque download
+    private static final Set<String> INLINE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp",
+            "application/pdf");
+
+    @Autowired
+    private ProofStore store;
+
+    @Autowired
+    private TaskWorkflowService workflow;
+
+    // The container refuses some bodies outright, e.g. a part whose file name contains a NUL
+    @ExceptionHandler(MultipartException.class)
+    public ResponseEntity<String> unreadableUpload(MultipartException e) {
+        if (e instanceof MaxUploadSizeExceededException) {
+            return ResponseEntity.status(413).body("Proof file is too large");
+        }
+        return ResponseEntity.badRequest().body("Malformed upload");
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@PathVariable Long id, @RequestParam("file") MultipartFile file,
+            Principal principal) {
+        try {
+            workflow.proofAccess(id, principal.getName(), true);
+            ProofStore.Blob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = store.store(in);
+            }
+            String type = INLINE_TYPES.contains(file.getContentType()) ? file.getContentType()
+                    : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            String name = fileName(file.getOriginalFilename());
+            return ResponseEntity.ok(workflow.attachProof(id, principal.getName(), blob, name, type));
+        } catch (TaskWorkflowService.DeniedException e) {
+            return ResponseEntity.status(403).body(e.getMessage());
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (ProofStore.TooLargeException e) {
+            return ResponseEntity.status(413).body(e.getMessage());
+        } catch (IOException e) {
+            return ResponseEntity.status(500).body("Upload failed: " + e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public void download(@PathVariable Long id, Principal principal, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        TaskWorkflowService.ProofFile proof;
+        try {
+            proof = workflow.proofAccess(id, principal.getName(), false);
+        } catch (TaskWorkflowService.DeniedException e) {
+            response.sendError(403);
+            return;
+        } catch (NoSuchElementException e) {
+            response.sendError(404);
+            return;
+        }
+        if (proof.hash() == null) {
+            response.sendError(404);
+            return;
+        }
+        Path file = store.path(proof.hash());
+        long length;
+        try {
+            length = Files.size(file);
+        } catch (NoSuchFileException e) {
+            response.sendError(404);
+            return;
+        }
+
+        // Content-addressed, so the hash is a strong validator and the bytes never change
+        String etag = "\"" + proof.hash() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(304);
+            return;
+        }
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(416);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(206);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        String type = proof.contentType() != null ? proof.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        response.setContentType(type);
+        String name = proof.name() != null ? proof.name() : "proof";
+        ContentDisposition disposition = (INLINE_TYPES.contains(type) ? ContentDisposition.inline()
+                : ContentDisposition.attachment()).filename(name, StandardCharsets.UTF_8).build();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    // Last path segment of the client's file name with control characters dropped; any string is accepted,
+    // including ones that are not valid paths on this server's file system
+    static String fileName(String original) {
+        if (original == null) {
+            return "proof";
+        }
+        String base = original.substring(Math.max(original.lastIndexOf('/'), original.lastIndexOf('\\')) + 1);
+        String name = base.codePoints().filter(c -> !Character.isISOControl(c))
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString().trim();
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            return "proof";
+        }
+        return name.length() > 255 ? name.substring(0, 255) : name;
+    }
+
+    // A single "bytes=a-b", "bytes=a-" or "bytes=-n" range as {start, end}; an empty array means serve the
+    // whole file (multiple ranges are answered with the full body, which RFC 9110 allows); null when the range
+    // cannot be satisfied.
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
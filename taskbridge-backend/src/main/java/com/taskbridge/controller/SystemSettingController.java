@@ -2,6 +2,7 @@ package com.taskbridge.controller;
 
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,6 +13,7 @@ import com.taskbridge.entity.SystemSetting;
 import com.taskbridge.entity.AuditLog;
 import com.taskbridge.repository.SystemSettingRepository;
 import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.security.RateLimitSettings;
 import java.security.Principal;
 
 @RestController
@@ -25,7 +27,11 @@ public class SystemSettingController {
     @Autowired
     private AuditLogRepository auditLogRepo;
 
+    @Autowired
+    private RateLimitSettings rateLimitSettings;
+
     @GetMapping("/settings")
+    @Transactional(readOnly = true)
     public List<SystemSetting> getSettings() {
         return settingRepo.findAll();
     }
@@ -33,6 +39,9 @@ public class SystemSettingController {
     @PostMapping("/settings")
     public SystemSetting updateSetting(@RequestBody SystemSetting setting, Principal principal) {
         SystemSetting saved = settingRepo.save(setting);
+        if (setting.getSettingKey() != null && setting.getSettingKey().startsWith(RateLimitSettings.PREFIX)) {
+            rateLimitSettings.reload();
+        }
 
         AuditLog log = new AuditLog();
         log.setAction("UPDATE_SETTING");
@@ -44,6 +53,7 @@ public class SystemSettingController {
     }
 
     @GetMapping("/public/settings")
+    @Transactional(readOnly = true)
     public java.util.Map<String, String> getPublicSettings() {
         java.util.List<SystemSetting> all = settingRepo.findAll();
         java.util.Map<String, String> publicMap = new java.util.HashMap<>();
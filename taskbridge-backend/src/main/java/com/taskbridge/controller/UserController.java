@@ -1,7 +1,6 @@
 package com.taskbridge.controller;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -12,6 +11,8 @@ import org.springframework.web.bind.annotation.RestController;
 import com.taskbridge.entity.Role;
 import com.taskbridge.entity.User;
 import com.taskbridge.repository.UserRepository;
+import com.taskbridge.repository.UserSummary;
+import com.taskbridge.service.UserDirectory;
 
 @RestController
 @RequestMapping("/users")
@@ -24,24 +25,58 @@ public class UserController {
     @Autowired
     private com.taskbridge.repository.AuditLogRepository auditLogRepo;
 
+    @Autowired
+    private com.taskbridge.repository.SparseFieldsetQuery fieldsetQuery;
+
+    @Autowired
+    private UserDirectory directory;
+
+    @Autowired
+    private com.taskbridge.security.TokenRevocations revocations;
+
     @GetMapping
-    public List<User> getAllUsers() {
-        return userRepo.findAll();
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public org.springframework.http.ResponseEntity<?> getAllUsers(
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return org.springframework.http.ResponseEntity.ok(directory.list(null));
+        }
+        try {
+            return org.springframework.http.ResponseEntity.ok(fieldsetQuery.select(User.class,
+                    com.taskbridge.repository.SparseFieldsetQuery.parse(fields, User.class), null));
+        } catch (IllegalArgumentException e) {
+            return org.springframework.http.ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/employees")
-    public List<User> getEmployees() {
-        return userRepo.findAll().stream()
-                .filter(u -> u.getRole() == Role.USER)
-                .collect(Collectors.toList());
+    public List<UserSummary> getEmployees() {
+        return directory.list(Role.USER);
+    }
+
+    // Paged directory with name/email prefix search, e.g. /users/directory?q=jan&role=USER&size=20
+    @GetMapping("/directory")
+    public org.springframework.http.ResponseEntity<?> searchDirectory(
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String q,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) Role role,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "false") boolean includeSuspended,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "0") int page,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > 500) {
+            return org.springframework.http.ResponseEntity.badRequest().body("page must be >= 0 and size 1-500");
+        }
+        return org.springframework.http.ResponseEntity.ok(directory.search(q, role, includeSuspended, page, size));
     }
 
     @org.springframework.web.bind.annotation.DeleteMapping("/{id}")
     public void deleteUser(@org.springframework.web.bind.annotation.PathVariable Long id) {
         userRepo.deleteById(id);
+        directory.remove(id);
+        revocations.revokeAccessTokens(id);
     }
 
     @GetMapping("/current")
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public User getCurrentUser(java.security.Principal principal) {
         return userRepo.findByEmail(principal.getName()).orElseThrow();
     }
@@ -57,7 +92,9 @@ public class UserController {
         if (data.containsKey("status")) {
             user.setAvailabilityStatus((String) data.get("status"));
         }
-        return userRepo.save(user);
+        User saved = userRepo.save(user);
+        directory.put(saved);
+        return saved;
     }
 
     @org.springframework.web.bind.annotation.PutMapping("/{id}/role")
@@ -67,6 +104,9 @@ public class UserController {
         Role oldRole = user.getRole();
         user.setRole(Role.valueOf(role.replace("\"", "")));
         User updated = userRepo.save(user);
+        directory.put(updated);
+        // Outstanding access tokens carry the old role / predate the suspension
+        revocations.revokeAccessTokens(updated.getId());
 
         com.taskbridge.entity.AuditLog log = new com.taskbridge.entity.AuditLog();
         log.setAction("UPDATE_ROLE");
@@ -83,6 +123,9 @@ public class UserController {
         User user = userRepo.findById(id).orElseThrow();
         user.setSuspended(!user.isSuspended());
         User updated = userRepo.save(user);
+        directory.put(updated);
+        // Outstanding access tokens carry the old role / predate the suspension
+        revocations.revokeAccessTokens(updated.getId());
 
         com.taskbridge.entity.AuditLog log = new com.taskbridge.entity.AuditLog();
         log.setAction(user.isSuspended() ? "SUSPEND_USER" : "ACTIVATE_USER");
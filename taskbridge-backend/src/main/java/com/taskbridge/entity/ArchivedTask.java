@@ -0,0 +1,106 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Cold copy of a finished Task. Keeps the original id so references stay stable.
+@Entity
+@Table(name = "archived_task")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedTask implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @Enumerated(EnumType.STRING)
+    private TaskCategory category;
+
+    private String deadline;
+    private String feedback;
+    private String rejectionReason;
+    private String toDoPlan;
+    private String completionProof;
+
+    // Uploaded proof file, stored by content hash in ProofStore; only the reference lives in the row
+    @Column(length = 64)
+    private String proofHash;
+    private Long proofSize;
+    private String proofName;
+    private String proofContentType;
+
+    // Timestamps
+    private LocalDateTime createdAt;
+    private LocalDateTime assignedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime escalatedAt;
+    private LocalDateTime archivedAt;
+
+    @ManyToOne
+    private User assignedTo;
+
+    @ManyToOne
+    private User assignedBy;
+
+    @ManyToOne
+    private User backupAssignee;
+
+    private Integer qualityScore;
+
+    private String status;
+
+    // Ids are copied from Task, so tell Spring Data to insert instead of merge-selecting first
+    @Transient
+    @JsonIgnore
+    private boolean fresh;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        fresh = false;
+    }
+
+    public static ArchivedTask from(Task task) {
+        ArchivedTask archived = new ArchivedTask();
+        BeanUtils.copyProperties(task, archived);
+        archived.setArchivedAt(LocalDateTime.now());
+        archived.setFresh(true);
+        return archived;
+    }
+
+    public Task toTask() {
+        Task task = new Task();
+        BeanUtils.copyProperties(this, task);
+        return task;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// One row per broadcast, whatever the audience size. Who has read it is kept in BroadcastReadState.
+@Entity
+@Table(name = "broadcast_notification", indexes = @Index(name = "idx_broadcast_timestamp", columnList = "timestamp"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "broadcast_notification_seq")
+    @SequenceGenerator(name = "broadcast_notification_seq", sequenceName = "broadcast_notification_seq", allocationSize = 50)
+    private Long id;
+
+    // Null means everyone
+    @Enumerated(EnumType.STRING)
+    private Role audience;
+
+    private String title;
+    private String message;
+
+    @com.fasterxml.jackson.annotation.JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime timestamp;
+
+    @PrePersist
+    protected void onCreate() {
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Deflate-compressed BitSet of the user ids that have read a broadcast. Created on the first read; concurrent
+// readers are serialized by the version column and retried.
+@Entity
+@Table(name = "broadcast_read_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastReadState {
+
+    @Id
+    private Long broadcastId;
+
+    // A million readers fit in 125 KB before compression; without a length MySQL gets a 255-byte TINYBLOB
+    @Lob
+    @Column(nullable = false, length = 1 << 20)
+    private byte[] bitmap;
+
+    private int readers;
+
+    @Version
+    private Long version;
+}
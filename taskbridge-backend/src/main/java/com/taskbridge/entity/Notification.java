@@ -11,8 +11,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Notification {
 
+    // Pooled ids (allocationSize = 50) instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,27 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Last task_event id a projection has applied. Saved in the same transaction as the projection's writes.
+@Entity
+@Table(name = "projection_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectionCheckpoint {
+
+    @Id
+    private String name;
+
+    private long position;
+
+    private LocalDateTime updatedAt;
+}
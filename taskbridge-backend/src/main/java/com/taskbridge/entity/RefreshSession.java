@@ -0,0 +1,33 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One login's chain of refresh tokens. Each token carries the session id and the counter it was issued at;
+// only the newest one is accepted, and presenting an older one ends the session.
+@Entity
+@Table(name = "refresh_session", indexes = @Index(name = "idx_refresh_session_expires", columnList = "expiresAt"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshSession {
+
+    @Id
+    private String id;
+
+    private Long userId;
+
+    private long counter;
+
+    private LocalDateTime rotatedAt;
+
+    private LocalDateTime expiresAt;
+}
@@ -1,5 +1,6 @@
 package com.taskbridge.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -8,6 +9,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,8 +24,10 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Task {
 
+    // Pooled ids (allocationSize = 50) instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -40,11 +45,19 @@ public class Task {
     private String toDoPlan;
     private String completionProof;
 
+    // Uploaded proof file, stored by content hash in ProofStore; only the reference lives in the row
+    @Column(length = 64)
+    private String proofHash;
+    private Long proofSize;
+    private String proofName;
+    private String proofContentType;
+
     // Timestamps
     private LocalDateTime createdAt;
     private LocalDateTime assignedAt;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
+    private LocalDateTime escalatedAt;
 
     @ManyToOne
     private User assignedTo;
@@ -59,6 +72,12 @@ public class Task {
 
     private String status = "PENDING";
 
+    // Transitions rewrite the whole row, so two of them racing on one task (two agents claiming it, a claim
+    // against a rejection) fail the later commit instead of silently overwriting the first
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,90 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One transition of a task, appended in the same transaction as the change itself and never updated.
+// The id is the stream position. IDENTITY rather than a pooled sequence: ids are taken at insert time
+// from one counter, so across instances they follow commit order to within a transaction's length.
+@Entity
+@Table(name = "task_event", indexes = @Index(name = "idx_task_event_task", columnList = "taskId"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    private TaskEventType type;
+
+    private Long actorId;
+
+    // State of the task right after the event, and right before it (null for CREATED)
+    private String status;
+    private String previousStatus;
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    private TaskCategory category;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    // Seconds since the task was created, so projections need not look the task up
+    private Long taskAgeSeconds;
+
+    // Feedback, rejection reason, score, etc.
+    @Column(length = 1000)
+    private String detail;
+
+    private LocalDateTime occurredAt;
+
+    // The task as it stands after the transition; actorId is null for the system
+    public static TaskEvent of(Task task, String previousStatus, TaskEventType type, Long actorId, String detail) {
+        TaskEvent event = new TaskEvent();
+        event.setTaskId(task.getId());
+        event.setType(type);
+        event.setActorId(actorId);
+        event.setStatus(task.getStatus());
+        event.setPreviousStatus(previousStatus);
+        event.setAssigneeId(task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
+        event.setCategory(task.getCategory());
+        event.setPriority(task.getPriority());
+        event.setOccurredAt(LocalDateTime.now());
+        if (task.getCreatedAt() != null) {
+            long age = Duration.between(task.getCreatedAt(), event.getOccurredAt()).getSeconds();
+            event.setTaskAgeSeconds(Math.max(0, age));
+        }
+        if (detail != null) {
+            event.setDetail(detail.length() > 1000 ? detail.substring(0, 1000) : detail);
+        }
+        return event;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (occurredAt == null) {
+            occurredAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskbridge.entity;
+
+public enum TaskEventType {
+    CREATED,
+    ASSIGNED,
+    REASSIGNED,
+    STARTED,
+    COMPLETED,
+    REJECTED,
+    REREQUESTED,
+    RESOLVED,
+    SCORED,
+    BACKUP_ASSIGNED,
+    PROOF_ATTACHED,
+    ESCALATED
+}
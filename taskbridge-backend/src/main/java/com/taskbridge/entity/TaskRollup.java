@@ -0,0 +1,51 @@
+package com.taskbridge.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One bucket of task activity per (granularity, bucketStart, category, priority).
+// Recent activity is kept in HOUR buckets; older hours are compacted into DAY buckets.
+@Entity
+@Table(name = "task_rollup", uniqueConstraints = @UniqueConstraint(name = "uk_task_rollup_bucket",
+        columnNames = { "granularity", "bucketStart", "category", "priority" }))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String granularity;
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    private TaskCategory category;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    private long created;
+    private long assigned;
+    private long completed;
+    private long rejected;
+
+    // Sums of seconds from creation to assignment / completion, averaged at read time.
+    // Administrative resolutions carry no completion time, so completions are sampled separately.
+    private long assignSeconds;
+    private long completeSeconds;
+    private long completeSamples;
+}
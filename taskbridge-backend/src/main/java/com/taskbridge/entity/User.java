@@ -12,6 +12,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import jakarta.persistence.Table;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Entity
 @Table(name = "users")
@@ -30,6 +32,8 @@ public class User {
     @Column(unique = true)
     private String email;
 
+    // Accepted on register, never written back out
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @Enumerated(EnumType.STRING)
@@ -38,6 +42,8 @@ public class User {
     private boolean available = true;
     private String availabilityStatus = "Available for missions";
     private boolean suspended = false;
-    private String otp;
-    private java.time.LocalDateTime otpExpiry;
+
+    // Bumped on password reset; refresh tokens issued at an older version are refused
+    @JsonIgnore
+    private int tokenVersion = 0;
 }
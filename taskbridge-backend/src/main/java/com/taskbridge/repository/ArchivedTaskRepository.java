@@ -0,0 +1,21 @@
+package com.taskbridge.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.User;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+    List<ArchivedTask> findByAssignedTo(User user);
+
+    List<ArchivedTask> findByAssignedBy(User user);
+
+    @Query("select t.id, t.createdAt, t.assignedAt, t.completedAt, t.status, t.category, t.priority "
+            + "from ArchivedTask t where t.id > :after order by t.id")
+    List<Object[]> findRollupRows(@Param("after") Long after, Pageable page);
+}
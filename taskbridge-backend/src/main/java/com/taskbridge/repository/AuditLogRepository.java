@@ -1,9 +1,24 @@
 package com.taskbridge.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.taskbridge.entity.AuditLog;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
-    List<AuditLog> findAllByOrderByTimestampDesc();
+    @Query("select a from AuditLog a where (:from is null or a.timestamp >= :from) and (:to is null or a.timestamp <= :to) and (:action is null or a.action = :action) order by a.timestamp desc, a.id desc")
+    List<AuditLog> search(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("action") String action, Pageable page);
+
+    @Query("select a from AuditLog a where a.timestamp < :cutoff order by a.timestamp asc, a.id asc")
+    List<AuditLog> findOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    // The timestamp bound keeps a stale segment from deleting newer rows that happen to reuse its ids
+    @Modifying
+    @Query("delete from AuditLog a where a.id in :ids and a.timestamp <= :sealedUpTo")
+    int deleteSealed(@Param("ids") List<Long> ids, @Param("sealedUpTo") LocalDateTime sealedUpTo);
 }
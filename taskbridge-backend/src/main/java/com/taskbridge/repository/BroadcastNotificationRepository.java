@@ -0,0 +1,18 @@
+package com.taskbridge.repository;
+
+import com.taskbridge.entity.BroadcastNotification;
+import com.taskbridge.entity.Role;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    @Query("select b from BroadcastNotification b where (b.audience is null or b.audience = :role) and b.timestamp >= :since order by b.timestamp desc, b.id desc")
+    List<BroadcastNotification> findVisible(@Param("role") Role role, @Param("since") LocalDateTime since);
+
+    @Query("select b.id from BroadcastNotification b where b.timestamp < :cutoff")
+    List<Long> findIdsOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
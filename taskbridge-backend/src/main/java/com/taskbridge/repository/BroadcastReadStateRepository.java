@@ -0,0 +1,7 @@
+package com.taskbridge.repository;
+
+import com.taskbridge.entity.BroadcastReadState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BroadcastReadStateRepository extends JpaRepository<BroadcastReadState, Long> {
+}
@@ -3,8 +3,14 @@ package com.taskbridge.repository;
 import com.taskbridge.entity.ChatMessage;
 import com.taskbridge.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     List<ChatMessage> findBySenderOrReceiverOrderByTimestampAsc(User sender, User receiver);
+
+    @Query("select m from ChatMessage m where (m.sender = :user or m.receiver = :user) and m.timestamp >= :since order by m.timestamp asc, m.id asc")
+    List<ChatMessage> findConversationSince(@Param("user") User user, @Param("since") LocalDateTime since);
 }
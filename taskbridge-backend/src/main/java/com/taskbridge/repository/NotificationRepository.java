@@ -2,11 +2,30 @@ package com.taskbridge.repository;
 
 import com.taskbridge.entity.Notification;
 import com.taskbridge.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserOrderByTimestampDesc(User user);
 
     long countByUserAndIsRead(User user, boolean isRead);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.user = :user and n.isRead = false and n.id <= :maxId")
+    int markAllReadUpTo(@Param("user") User user, @Param("maxId") long maxId);
+
+    @Transactional
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.id = :id and n.user = :user")
+    int markRead(@Param("id") Long id, @Param("user") User user);
+
+    @Query("select n.id from Notification n where n.isRead = true and n.timestamp < :cutoff order by n.id")
+    List<Long> findReadIdsOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable page);
 }
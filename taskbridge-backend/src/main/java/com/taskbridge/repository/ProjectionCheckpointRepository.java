@@ -0,0 +1,35 @@
+package com.taskbridge.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskbridge.entity.ProjectionCheckpoint;
+
+import jakarta.persistence.LockModeType;
+
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+
+    // Moves the checkpoint only if it is still where the caller read it. The row stays locked until the
+    // caller's transaction ends, so a second node running the same batch waits here and then gets 0.
+    @Modifying
+    @Query("update ProjectionCheckpoint c set c.position = :to, c.updatedAt = :now "
+            + "where c.name = :name and c.position = :from")
+    int advance(@Param("name") String name, @Param("from") long from, @Param("to") long to,
+            @Param("now") LocalDateTime now);
+
+    // A plain insert: save() would merge, updating a row that another node committed in the meantime
+    @Modifying
+    @Query("insert into ProjectionCheckpoint (name, position, updatedAt) values (:name, :position, :now)")
+    int insert(@Param("name") String name, @Param("position") long position, @Param("now") LocalDateTime now);
+
+    // Holds the row until the caller's transaction ends, serializing maintenance with the batches applied above
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ProjectionCheckpoint c where c.name = :name")
+    Optional<ProjectionCheckpoint> lock(@Param("name") String name);
+}
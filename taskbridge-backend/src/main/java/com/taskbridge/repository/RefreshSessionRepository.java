@@ -0,0 +1,26 @@
+package com.taskbridge.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskbridge.entity.RefreshSession;
+
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, String> {
+
+    // Compare-and-set on the counter: of two requests presenting the same token, one advances the session
+    @Transactional
+    @Modifying
+    @Query("update RefreshSession s set s.counter = s.counter + 1, s.rotatedAt = :now "
+            + "where s.id = :id and s.counter = :counter and s.expiresAt > :now")
+    int advance(@Param("id") String id, @Param("counter") long counter, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshSession s where s.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
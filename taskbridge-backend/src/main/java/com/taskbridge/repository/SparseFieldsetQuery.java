@@ -0,0 +1,131 @@
+package com.taskbridge.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Repository;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+// Backs ?fields= on collection endpoints: selects only the requested columns into tuples and returns them as
+// maps, so neither the database nor Jackson touches anything else. Dotted fields ("assignedTo.name") become a
+// left join and a nested map. Only whitelisted fields can be selected.
+@Repository
+public class SparseFieldsetQuery {
+
+    private static final Set<String> USER_FIELDS = Set.of("id", "name", "email", "role", "available",
+            "availabilityStatus", "suspended");
+
+    private static final Set<String> TASK_FIELDS = Set.of("id", "title", "description", "priority", "category",
+            "deadline", "feedback", "rejectionReason", "toDoPlan", "completionProof", "proofHash", "proofSize",
+            "proofName", "proofContentType", "createdAt", "assignedAt", "startedAt", "completedAt", "escalatedAt",
+            "qualityScore", "status");
+
+    private static final Set<String> TASK_RELATIONS = Set.of("assignedTo", "assignedBy", "backupAssignee");
+
+    private static final Map<Class<?>, Set<String>> FIELDS = Map.of(User.class, USER_FIELDS, Task.class, TASK_FIELDS,
+            ArchivedTask.class, TASK_FIELDS);
+
+    private static final Map<Class<?>, Set<String>> RELATIONS = Map.of(Task.class, TASK_RELATIONS,
+            ArchivedTask.class, TASK_RELATIONS);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public interface Filter<T> {
+        Predicate apply(CriteriaBuilder cb, Root<T> root);
+    }
+
+    /** Parses "id,title,assignedTo.name" and rejects anything not whitelisted for the entity. */
+    public static Set<String> parse(String fields, Class<?> entity) {
+        Set<String> allowed = FIELDS.get(entity);
+        Set<String> relations = RELATIONS.getOrDefault(entity, Set.of());
+        Set<String> result = new LinkedHashSet<>();
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            int dot = field.indexOf('.');
+            boolean ok = dot < 0 ? allowed.contains(field)
+                    : relations.contains(field.substring(0, dot)) && USER_FIELDS.contains(field.substring(dot + 1));
+            if (!ok) {
+                throw new IllegalArgumentException("Unknown or restricted field: " + field);
+            }
+            result.add(field);
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return result;
+    }
+
+    public <T> List<Map<String, Object>> select(Class<T> entity, Set<String> fields, Filter<T> filter) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(entity);
+
+        Map<String, Join<T, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields) {
+            int dot = field.indexOf('.');
+            Path<?> path;
+            if (dot < 0) {
+                path = root.get(field);
+            } else {
+                String relation = field.substring(0, dot);
+                Join<T, ?> join = joins.computeIfAbsent(relation, r -> root.join(r, JoinType.LEFT));
+                path = join.get(field.substring(dot + 1));
+            }
+            selections.add(path.alias(field.replace('.', '_')));
+        }
+        query.multiselect(selections);
+        if (filter != null) {
+            query.where(filter.apply(cb, root));
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : em.createQuery(query).getResultList()) {
+            rows.add(toMap(tuple, fields));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toMap(Tuple tuple, Set<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = tuple.get(field.replace('.', '_'));
+            int dot = field.indexOf('.');
+            if (dot < 0) {
+                row.put(field, value);
+            } else {
+                Map<String, Object> nested = (Map<String, Object>) row.computeIfAbsent(field.substring(0, dot),
+                        r -> new LinkedHashMap<>());
+                nested.put(field.substring(dot + 1), value);
+            }
+        }
+        // A left-join miss renders as null, like the full entity would
+        row.replaceAll((k, v) -> v instanceof Map<?, ?> m && m.values().stream().allMatch(x -> x == null) ? null : v);
+        return row;
+    }
+}
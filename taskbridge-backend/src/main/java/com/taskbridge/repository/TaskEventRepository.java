@@ -0,0 +1,21 @@
+package com.taskbridge.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.taskbridge.entity.TaskEvent;
+
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+    List<TaskEvent> findByTaskIdOrderByIdAsc(Long taskId);
+
+    // Next committed events after a checkpoint; ids still held by open transactions show up as gaps
+    @Query("select e from TaskEvent e where e.id > :after order by e.id")
+    List<TaskEvent> findBatch(@Param("after") long after, Pageable page);
+
+    @Query("select coalesce(max(e.id), 0) from TaskEvent e")
+    long findLastId();
+}
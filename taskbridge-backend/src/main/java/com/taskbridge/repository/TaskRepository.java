@@ -1,8 +1,14 @@
 package com.taskbridge.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.taskbridge.entity.Task;
 import com.taskbridge.entity.User;
@@ -13,4 +19,40 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAssignedBy(User user);
 
     List<Task> findByAssignedToIsNull();
+
+    // The task and every user a workflow transition may notify, in one statement
+    @Query("select t from Task t left join fetch t.assignedTo left join fetch t.assignedBy "
+            + "left join fetch t.backupAssignee where t.id = :id")
+    Optional<Task> findWithPartiesById(@Param("id") Long id);
+
+    @Query("select t.status, t.priority, count(t) from Task t "
+            + "where t.status not in ('COMPLETED', 'REJECTED') group by t.status, t.priority")
+    List<Object[]> countOpenByStatusAndPriority();
+
+    // Deadline, priority and id of open tasks the SLA engine still has to watch
+    @Query("select t.id, t.deadline, t.priority from Task t where t.status in ('PENDING', 'IN_PROGRESS') "
+            + "and t.deadline is not null and t.escalatedAt is null")
+    List<Object[]> findOpenDeadlines();
+
+    // Claims an overdue task for escalation; 0 when it was finished or already escalated (perhaps by another node).
+    // Bulk updates bypass @Version, so these bump it themselves.
+    @Modifying
+    @Query("update Task t set t.escalatedAt = :now, t.version = t.version + 1 "
+            + "where t.id = :id and t.escalatedAt is null and t.status in ('PENDING', 'IN_PROGRESS')")
+    int markEscalated(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Task t set t.assignedTo = :backup, t.assignedAt = :now, t.version = t.version + 1 "
+            + "where t.id = :id")
+    int handOver(@Param("id") Long id, @Param("backup") User backup, @Param("now") LocalDateTime now);
+
+    // Rejected tasks carry no completion time, so fall back to their creation time
+    @Query("select t.id from Task t where t.status in ('COMPLETED', 'REJECTED') "
+            + "and coalesce(t.completedAt, t.createdAt) < :cutoff order by t.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    // Keyset page of the columns the analytics rollups are rebuilt from
+    @Query("select t.id, t.createdAt, t.assignedAt, t.completedAt, t.status, t.category, t.priority from Task t "
+            + "where t.id > :after order by t.id")
+    List<Object[]> findRollupRows(@Param("after") Long after, Pageable page);
 }
@@ -0,0 +1,22 @@
+package com.taskbridge.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.taskbridge.entity.TaskRollup;
+
+public interface TaskRollupRepository extends JpaRepository<TaskRollup, Long> {
+    List<TaskRollup> findByGranularityAndBucketStartIn(String granularity, Collection<LocalDateTime> starts);
+
+    List<TaskRollup> findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThan(String granularity,
+            LocalDateTime from, LocalDateTime to);
+
+    List<TaskRollup> findByBucketStartGreaterThanEqualAndBucketStartLessThan(LocalDateTime from, LocalDateTime to);
+
+    Optional<TaskRollup> findFirstByGranularityAndBucketStartLessThanOrderByBucketStart(String granularity,
+            LocalDateTime before);
+}
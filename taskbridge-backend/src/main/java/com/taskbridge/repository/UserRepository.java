@@ -3,6 +3,10 @@ package com.taskbridge.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.taskbridge.entity.User;
 
@@ -12,4 +16,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailIgnoreCase(String email);
 
     java.util.List<User> findByRole(com.taskbridge.entity.Role role);
+
+    @Query("select new com.taskbridge.repository.UserSummary(u.id, u.name, u.email, u.role, u.available, "
+            + "u.availabilityStatus, u.suspended) from User u")
+    java.util.List<UserSummary> findAllSummaries();
+
+    // Swaps the hash only if it is still the one that was verified, so a concurrent reset wins
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -0,0 +1,14 @@
+package com.taskbridge.repository;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+
+// Lean, credential-free view of a user for directories, pickers and dashboards
+public record UserSummary(Long id, String name, String email, Role role, boolean available,
+        String availabilityStatus, boolean suspended) {
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(), user.getRole(), user.isAvailable(),
+                user.getAvailabilityStatus(), user.isSuspended());
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskbridge.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.taskbridge.util.TimerWheel;
+
+// Pending OTPs live in a concurrent map; a timer wheel drops them when they expire, so the store never needs a
+// scan and never touches the users table. Bounded to maxEntries pending codes; each code allows maxAttempts
+// wrong guesses before it is burned.
+@Component
+public class InMemoryOtpStore implements OtpStore {
+
+    private record Entry(String code, long expiresAt, AtomicInteger failures) {
+    }
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimerWheel<String> expiry = new TimerWheel<>(1000, System.currentTimeMillis());
+    private LongSupplier clock = System::currentTimeMillis;
+
+    @Value("${otp.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    @Value("${otp.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${otp.max-entries:100000}")
+    private int maxEntries;
+
+    @Override
+    public String issue(String email) {
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            throw new IllegalStateException("Too many pending reset codes, please retry later");
+        }
+        String code = String.format("%06d", random.nextInt(1_000_000));
+        long expiresAt = clock.getAsLong() + ttlMinutes * 60_000;
+        entries.put(email, new Entry(code, expiresAt, new AtomicInteger()));
+        expiry.schedule(email, expiresAt);
+        return code;
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        Entry entry = entries.get(email);
+        if (entry == null) {
+            return Result.INVALID;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.remove(email, entry);
+            return Result.EXPIRED;
+        }
+        if (entry.failures().get() >= maxAttempts) {
+            return Result.TOO_MANY_ATTEMPTS;
+        }
+        boolean match = code != null && MessageDigest.isEqual(entry.code().getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8));
+        if (!match) {
+            return entry.failures().incrementAndGet() >= maxAttempts ? Result.TOO_MANY_ATTEMPTS : Result.INVALID;
+        }
+        // remove(key, value) makes the code single-use even under concurrent verifies
+        if (!entries.remove(email, entry)) {
+            return Result.INVALID;
+        }
+        expiry.cancel(email);
+        return Result.OK;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void expire() {
+        long now = clock.getAsLong();
+        for (String email : expiry.advance(now)) {
+            entries.computeIfPresent(email, (k, entry) -> entry.expiresAt() <= now ? null : entry);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -9,14 +9,13 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.taskbridge.entity.User;
-import com.taskbridge.repository.UserRepository;
-
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+// Authorizes from the access token's claims plus the in-memory revocation cutoffs; no SQL per request
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -24,7 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private UserRepository userRepo;
+    private TokenRevocations revocations;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -45,22 +44,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String jwt = authHeader.substring(7);
-            String userEmail = jwtUtil.extractEmail(jwt);
+            Claims claims = jwtUtil.parse(jwt);
+            String userEmail = claims.getSubject();
+            Long userId = claims.get("uid", Long.class);
+            String roleName = claims.get("role", String.class);
+
+            // Refresh tokens and tokens from before role claims existed are not accepted here
+            boolean usable = JwtUtil.TYPE_ACCESS.equals(claims.get("typ", String.class)) && userEmail != null
+                    && userId != null && roleName != null && claims.getIssuedAt() != null
+                    && !revocations.isRevoked(userId, claims.getIssuedAt().getTime() / 1000);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepo.findByEmail(userEmail).orElse(null);
-                if (user != null) {
-                    String roleName = user.getRole() != null ? user.getRole().name() : "USER";
-                    java.util.List<org.springframework.security.core.GrantedAuthority> authorities = java.util.List.of(
-                            new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + roleName));
+            if (usable && SecurityContextHolder.getContext().getAuthentication() == null) {
+                java.util.List<org.springframework.security.core.GrantedAuthority> authorities = java.util.List.of(
+                        new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_" + roleName));
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userEmail, jwt, authorities);
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userEmail, jwt, authorities);
 
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
+        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            // Normal once the access token's short lifetime is up; the client refreshes
         } catch (Exception e) {
             System.err.println("Security filter error: " + e.getMessage());
         }
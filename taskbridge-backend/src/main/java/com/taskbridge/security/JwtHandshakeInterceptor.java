@@ -0,0 +1,59 @@
+package com.taskbridge.security;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.taskbridge.service.ChatHub;
+
+import io.jsonwebtoken.Claims;
+
+// Browsers cannot set an Authorization header on a WebSocket upgrade, so the access token comes as the
+// ?token= query parameter and gets the same checks as in JwtAuthenticationFilter. The socket would outlive the
+// token, so its expiry goes along and ChatHub.sweep() closes the socket once it passes or the token is revoked.
+@Component
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocations revocations;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst("token");
+        try {
+            if (token != null) {
+                Claims claims = jwtUtil.parse(token);
+                Long userId = claims.get("uid", Long.class);
+                if (JwtUtil.TYPE_ACCESS.equals(claims.get("typ", String.class)) && claims.getSubject() != null
+                        && userId != null && claims.getIssuedAt() != null && claims.getExpiration() != null
+                        && !revocations.isRevoked(userId, claims.getIssuedAt().getTime() / 1000)) {
+                    attributes.put(ChatHub.USER_ID, userId);
+                    attributes.put(ChatHub.ISSUED_AT, claims.getIssuedAt().getTime() / 1000);
+                    attributes.put(ChatHub.EXPIRES_AT, claims.getExpiration().getTime() / 1000);
+                    attributes.put(ChatHub.EMAIL, claims.getSubject());
+                    return true;
+                }
+            }
+        } catch (io.jsonwebtoken.JwtException | IllegalArgumentException e) {
+            // Expired or tampered; the client refreshes and reconnects
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
+            Exception exception) {
+    }
+}
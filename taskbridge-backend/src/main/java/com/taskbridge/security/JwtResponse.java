@@ -3,12 +3,18 @@ package com.taskbridge.security;
 public class JwtResponse {
     private String token;
     private String role;
+    private String refreshToken;
 
     public JwtResponse(String token, String role) {
         this.token = token;
         this.role = role;
     }
 
+    public JwtResponse(String token, String role, String refreshToken) {
+        this(token, role);
+        this.refreshToken = refreshToken;
+    }
+
     public String getToken() {
         return token;
     }
@@ -24,4 +30,12 @@ public class JwtResponse {
     public void setRole(String role) {
         this.role = role;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
 }
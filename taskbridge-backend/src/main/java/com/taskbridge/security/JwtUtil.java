@@ -4,43 +4,88 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.security.Key;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.taskbridge.entity.User;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
+// Access tokens are short-lived and carry everything the filter needs (email, user id, role), so requests are
+// authorized without touching the database. Refresh tokens are long-lived, carry the id, the user's token
+// version and their place in a RefreshTokens session, and are traded for a new access token (and a new refresh
+// token) at /auth/refresh after the user is re-checked.
 @Component
 public class JwtUtil {
 
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String secret;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    @Value("${jwt.access-expiration:900000}")
+    private long accessExpiration;
+
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpiration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Key signingKey;
+    private JwtParser parser;
+    private Timer verifyTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifyTimer = Timer.builder("taskbridge.jwt.verify")
+                .description("JWT signature verification and claim parsing")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+    public String generateToken(User user) {
+        return build(user, TYPE_ACCESS, accessExpiration)
+                .claim("role", user.getRole() != null ? user.getRole().name() : "USER")
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public String generateRefreshToken(User user, String sessionId, long counter, Date expiresAt) {
+        return build(user, TYPE_REFRESH, refreshExpiration)
+                .claim("ver", user.getTokenVersion())
+                .claim("sid", sessionId)
+                .claim("n", counter)
+                .setExpiration(expiresAt)
+                .compact();
+    }
+
+    private io.jsonwebtoken.JwtBuilder build(User user, String type, long lifetime) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(user.getEmail())
+                .claim("uid", user.getId())
+                .claim("typ", type)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetime))
+                .signWith(signingKey);
+    }
+
+    /** Verifies the signature and expiry; throws a JwtException otherwise. */
+    public Claims parse(String token) {
+        return verifyTimer.record(() -> parser.parseClaimsJws(token).getBody());
+    }
 
-        return claims.getSubject();
+    public long getAccessExpiration() {
+        return accessExpiration;
     }
 }
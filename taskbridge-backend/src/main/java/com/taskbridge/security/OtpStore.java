@@ -0,0 +1,19 @@
+package com.taskbridge.security;
+
+/**
+ * Short-lived one-time codes for password reset, keyed by normalized email.
+ * The default implementation is in-memory and therefore per node; a multi-node
+ * deployment can replace it with a shared (database or cache backed) bean.
+ */
+public interface OtpStore {
+
+    enum Result {
+        OK, INVALID, EXPIRED, TOO_MANY_ATTEMPTS
+    }
+
+    /** Issues a fresh code for email, replacing any pending one. */
+    String issue(String email);
+
+    /** Checks code against the pending one for email; a correct code is consumed. */
+    Result verify(String email, String code);
+}
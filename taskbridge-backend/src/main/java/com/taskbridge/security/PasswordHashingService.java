@@ -0,0 +1,146 @@
+package com.taskbridge.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+// BCrypt off the request threads: hashing runs on a pool sized to the cores with a bounded queue, so a login
+// burst can use at most those cores and the excess is shed (503) instead of starving every other endpoint.
+@Service
+public class PasswordHashingService {
+
+    public static class OverloadedException extends RuntimeException {
+        public OverloadedException(String message) {
+            super(message);
+        }
+    }
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(BCryptPasswordEncoder encoder, MeterRegistry meterRegistry,
+            @Value("${auth.hashing.threads:0}") int threads,
+            @Value("${auth.hashing.queue:0}") int queue,
+            @Value("${auth.hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.encoder = encoder;
+        this.timeoutMillis = timeoutMillis;
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Deeper queues only turn into timeouts: at the target latency, 8 jobs per worker already wait ~2s
+        int capacity = queue > 0 ? queue : size * 8;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), r -> {
+                    Thread thread = new Thread(r, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = bcryptTimer(meterRegistry, "encode");
+        this.matchesTimer = bcryptTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("taskbridge.auth.hashing.wait")
+                .description("Time a hashing job spent queued before a worker picked it up")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("taskbridge.auth.hashing.rejected")
+                .description("Hashing jobs shed because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("taskbridge.auth.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Hashing jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("taskbridge.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        // Read once from a fresh hash ("$2a$12$..."); the encoder does not expose its strength
+        int cost = Integer.parseInt(encoder.encode("").substring(4, 6));
+        Gauge.builder("taskbridge.auth.bcrypt.cost", () -> cost)
+                .description("BCrypt cost factor used for new hashes")
+                .register(meterRegistry);
+    }
+
+    private static Timer bcryptTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("taskbridge.auth.bcrypt")
+                .description("BCrypt hashing time on the hashing pool")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public String encode(String raw) {
+        return run(() -> encodeTimer.record(() -> encoder.encode(raw)));
+    }
+
+    public boolean matches(String raw, String encoded) {
+        return run(() -> matchesTimer.record(() -> encoder.matches(raw, encoded)));
+    }
+
+    // True when the stored hash was made with a lower cost than the current one
+    public boolean needsRehash(String encoded) {
+        return encoded != null && encoder.upgradeEncoding(encoded);
+    }
+
+    // Re-hashes in the background; skipped when the pool is busy, the next login will try again
+    public void rehashAsync(String raw, Consumer<String> store) {
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(encodeTimer.record(() -> encoder.encode(raw)));
+                } catch (RuntimeException e) {
+                    System.err.println("Password rehash failed: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+        }
+    }
+
+    private <T> T run(Callable<T> job) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return job.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new OverloadedException("Authentication is busy, please retry");
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new OverloadedException("Authentication timed out, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
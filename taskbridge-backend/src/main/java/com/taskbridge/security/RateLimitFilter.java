@@ -0,0 +1,65 @@
+package com.taskbridge.security;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Admission control. Runs after JwtAuthenticationFilter so authenticated callers are limited per user,
+// anonymous callers per client address.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String AUTH = "auth";
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitSettings settings;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!settings.isEnabled() || "OPTIONS".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String routeClass = routeClass(request);
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String caller = auth != null && auth.isAuthenticated() && !AUTH.equals(routeClass)
+                ? "user:" + auth.getName()
+                : "ip:" + request.getRemoteAddr();
+
+        long retryAfter = rateLimiter.tryAcquire(routeClass, caller, settings.perMinute(routeClass),
+                settings.capacity(routeClass));
+        if (retryAfter > 0) {
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(retryAfter));
+            response.setContentType("application/json");
+            response.getWriter().write("{ \"message\": \"Too many requests, retry in " + retryAfter + "s\" }");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String routeClass(HttpServletRequest request) {
+        if (request.getRequestURI().startsWith("/auth/")) {
+            return AUTH;
+        }
+        return "GET".equals(request.getMethod()) ? READ : WRITE;
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskbridge.security;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.taskbridge.entity.SystemSetting;
+import com.taskbridge.repository.SystemSettingRepository;
+
+// Limits come from SystemSetting (rateLimit.*) and fall back to application.properties.
+// Values are cached and reloaded on a timer or right after an admin updates a setting.
+@Component
+public class RateLimitSettings {
+
+    public static final String PREFIX = "rateLimit.";
+
+    @Autowired
+    private SystemSettingRepository settingRepo;
+
+    @Value("${ratelimit.enabled:true}")
+    private boolean defaultEnabled;
+
+    @Value("${ratelimit.read-per-minute:300}")
+    private int defaultReadPerMinute;
+
+    @Value("${ratelimit.write-per-minute:60}")
+    private int defaultWritePerMinute;
+
+    @Value("${ratelimit.auth-per-minute:20}")
+    private int defaultAuthPerMinute;
+
+    private volatile Map<String, String> overrides = Map.of();
+
+    @Scheduled(fixedDelayString = "${ratelimit.settings-refresh-ms:30000}")
+    public void reload() {
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (SystemSetting s : settingRepo.findAll()) {
+                if (s.getSettingKey() != null && s.getSettingKey().startsWith(PREFIX)) {
+                    values.put(s.getSettingKey().substring(PREFIX.length()), s.getSettingValue());
+                }
+            }
+            overrides = values;
+        } catch (Exception e) {
+            System.err.println("Rate limit settings reload failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        String v = overrides.get("enabled");
+        return v != null ? Boolean.parseBoolean(v) : defaultEnabled;
+    }
+
+    public int perMinute(String routeClass) {
+        return switch (routeClass) {
+            case RateLimitFilter.AUTH -> intSetting("authPerMinute", defaultAuthPerMinute);
+            case RateLimitFilter.WRITE -> intSetting("writePerMinute", defaultWritePerMinute);
+            default -> intSetting("readPerMinute", defaultReadPerMinute);
+        };
+    }
+
+    // Allow a burst of roughly 15 seconds' worth of requests
+    public int capacity(String routeClass) {
+        return Math.max(1, perMinute(routeClass) / 4);
+    }
+
+    private int intSetting(String key, int fallback) {
+        String v = overrides.get(key);
+        if (v == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(v.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskbridge.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Token buckets keyed by "<routeClass>|<caller>". Each bucket is a single AtomicLong updated with CAS,
+// so admission never takes a lock. Idle buckets are swept and the map is capped at maxEntries; when it is
+// full the least recently admitted tenth is dropped, so a flood of new keys costs those keys their history
+// rather than putting every new caller into one shared, exhausted bucket.
+@Component
+public class RateLimiter {
+
+    // Packed bucket state: high bits = last refill time (ms since EPOCH_BASE), low bits = milli-tokens
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MAX_MILLI_TOKENS = TOKEN_MASK;
+    private static final long EPOCH_BASE = System.currentTimeMillis();
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @Value("${ratelimit.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${ratelimit.idle-evict-ms:600000}")
+    private long idleEvictMillis;
+
+    /**
+     * Tries to take one token. Returns 0 when admitted, otherwise the number of
+     * seconds until a token becomes available.
+     */
+    public long tryAcquire(String routeClass, String caller, int perMinute, int capacity) {
+        if (perMinute <= 0) {
+            return 0;
+        }
+        long now = System.currentTimeMillis() - EPOCH_BASE;
+        long capMilli = Math.min((long) Math.max(capacity, 1) * 1000, MAX_MILLI_TOKENS);
+        AtomicLong bucket = bucketFor(routeClass + "|" + caller, now, capMilli);
+
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+            long elapsed = Math.max(0, now - last);
+            tokens = Math.min(capMilli, tokens + elapsed * perMinute / 60);
+            if (tokens < 1000) {
+                long missing = 1000 - tokens;
+                return Math.max(1, (missing * 60 + perMinute * 1000L - 1) / (perMinute * 1000L));
+            }
+            long next = (now << TOKEN_BITS) | (tokens - 1000);
+            if (bucket.compareAndSet(state, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong bucketFor(String key, long now, long capMilli) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxEntries) {
+            makeRoom();
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong((now << TOKEN_BITS) | capMilli));
+    }
+
+    // Sorting happens once per maxEntries / 10 new keys, so the cost per insert stays logarithmic
+    private synchronized void makeRoom() {
+        if (buckets.size() < maxEntries) {
+            return;
+        }
+        evictIdle();
+        int excess = buckets.size() - maxEntries + Math.max(1, maxEntries / 10);
+        if (excess <= 0) {
+            return;
+        }
+        long[] lastUse = buckets.values().stream().mapToLong(b -> b.get() >>> TOKEN_BITS).sorted().toArray();
+        long cutoff = lastUse[Math.min(excess, lastUse.length) - 1];
+        buckets.values().removeIf(b -> (b.get() >>> TOKEN_BITS) <= cutoff);
+    }
+
+    @Scheduled(fixedDelayString = "${ratelimit.sweep-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - EPOCH_BASE - idleEvictMillis;
+        Iterator<AtomicLong> it = buckets.values().iterator();
+        while (it.hasNext()) {
+            if ((it.next().get() >>> TOKEN_BITS) < cutoff) {
+                it.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskbridge.security;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.taskbridge.entity.RefreshSession;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.RefreshSessionRepository;
+
+import io.jsonwebtoken.Claims;
+
+// Refresh token rotation. Every /auth/refresh returns a new refresh token and retires the one presented.
+// A retired token coming back means it was copied, so the whole session is ended and the user has to log in
+// again. The exception is the token retired within the last reuse-grace-ms: two tabs sharing localStorage
+// can both refresh with it, and the loser is given the winner's token rather than being logged out.
+@Component
+public class RefreshTokens {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RefreshSessionRepository sessionRepo;
+
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpiration;
+
+    @Value("${jwt.refresh-reuse-grace-ms:30000}")
+    private long reuseGraceMillis;
+
+    // Starts a session at login; it lasts refresh-expiration however often it is rotated
+    public String issue(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshSession session = new RefreshSession(UUID.randomUUID().toString(), user.getId(), 0, now,
+                now.plusNanos(refreshExpiration * 1_000_000));
+        sessionRepo.save(session);
+        return token(user, session, 0);
+    }
+
+    // Returns the next refresh token, or null when the presented one is not the newest of a live session
+    public String rotate(User user, Claims claims) {
+        String sessionId = claims.get("sid", String.class);
+        Number counter = claims.get("n", Number.class);
+        if (sessionId == null || counter == null) {
+            // Issued before rotation existed
+            return null;
+        }
+        RefreshSession session = sessionRepo.findById(sessionId).orElse(null);
+        if (session == null || !user.getId().equals(session.getUserId())) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long presented = counter.longValue();
+        if (presented == session.getCounter() && sessionRepo.advance(sessionId, presented, now) == 1) {
+            return token(user, session, presented + 1);
+        }
+        // Lost the race to a concurrent refresh, or the token was retired earlier
+        session = sessionRepo.findById(sessionId).orElse(null);
+        if (session == null || !session.getExpiresAt().isAfter(now)) {
+            return null;
+        }
+        if (presented == session.getCounter() - 1
+                && session.getRotatedAt().isAfter(now.minusNanos(reuseGraceMillis * 1_000_000))) {
+            return token(user, session, session.getCounter());
+        }
+        sessionRepo.deleteById(sessionId);
+        System.err.println("Refresh token reuse for user " + user.getId() + ", session " + sessionId + " ended");
+        return null;
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 40 3 * * *}")
+    public int purgeExpired() {
+        return sessionRepo.deleteExpired(LocalDateTime.now());
+    }
+
+    private String token(User user, RefreshSession session, long counter) {
+        Date expiresAt = Date.from(session.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+        return jwtUtil.generateRefreshToken(user, session.getId(), counter, expiresAt);
+    }
+}
@@ -0,0 +1,42 @@
+package com.taskbridge.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Per-user "access tokens issued before" cutoffs. A role change or suspension revokes the user's outstanding
+// access tokens at once; the client then has to go through /auth/refresh, which re-reads the user, so the new
+// role applies and suspended users are turned away. An entry is only needed until every token it covers has
+// expired, so the map holds just the users changed within the last access-token lifetime. Per node.
+@Component
+public class TokenRevocations {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    public void revokeAccessTokens(Long userId) {
+        revokedBefore.put(userId, System.currentTimeMillis() / 1000);
+    }
+
+    // iat has second precision; a token issued in the same second as the revocation is kept so that the
+    // refresh that follows it is not itself revoked
+    public boolean isRevoked(Long userId, long issuedAtSeconds) {
+        Long cutoff = revokedBefore.get(userId);
+        return cutoff != null && issuedAtSeconds < cutoff;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purge() {
+        long horizon = (System.currentTimeMillis() - jwtUtil.getAccessExpiration()) / 1000 - 1;
+        revokedBefore.values().removeIf(cutoff -> cutoff < horizon);
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+}
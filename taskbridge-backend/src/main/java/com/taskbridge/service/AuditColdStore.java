@@ -0,0 +1,135 @@
+package com.taskbridge.service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.taskbridge.entity.AuditLog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Cold tier of the audit log: sealed AuditSegment files under audit.cold.dir, memory-mapped when the service
+// starts, when a segment is sealed here, or when a search finds one another node sealed. Files are named
+// audit-<sequence>.seg and never change once renamed into place. Every node that serves /admin/logs needs the
+// same directory, and only one of them seals (audit.cold.enabled), so sequence numbers never collide.
+@Service
+public class AuditColdStore {
+
+    private final Path root;
+    private final List<AuditSegment> segments = new CopyOnWriteArrayList<>();
+    private long sequence;
+
+    public AuditColdStore(@Value("${audit.cold.dir:data/audit}") String dir, MeterRegistry meterRegistry)
+            throws IOException {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        refresh();
+        Gauge.builder("taskbridge.audit.cold.segments", segments, List::size)
+                .description("Sealed audit segments on local disk")
+                .register(meterRegistry);
+        Gauge.builder("taskbridge.audit.cold.bytes", segments,
+                s -> s.stream().mapToLong(AuditSegment::sizeBytes).sum())
+                .description("Compressed size of the sealed audit segments")
+                .register(meterRegistry);
+    }
+
+    // Opens segment files that appeared since the last look, e.g. sealed by the designated node
+    synchronized void refresh() throws IOException {
+        Set<Path> known = new HashSet<>();
+        segments.forEach(segment -> known.add(segment.file()));
+        List<AuditSegment> opened = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, "audit-*.seg")) {
+            for (Path file : files) {
+                if (known.contains(file)) {
+                    continue;
+                }
+                try {
+                    opened.add(AuditSegment.open(file));
+                    sequence = Math.max(sequence, sequenceOf(file));
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Audit cold store: skipping unreadable segment " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        if (!opened.isEmpty()) {
+            segments.addAll(opened);
+            segments.sort(Comparator.comparingLong(segment -> sequenceOf(segment.file())));
+        }
+    }
+
+    // Writes the rows to a temp file, fsyncs it and renames it into place; returns the new segment
+    synchronized AuditSegment seal(List<AuditLog> rows) throws IOException {
+        List<AuditLog> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId));
+        Path temp = root.resolve("sealing-" + System.nanoTime() + ".tmp");
+        try {
+            AuditSegment.write(temp, sorted);
+            Path target = root.resolve(String.format("audit-%08d.seg", sequence + 1));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            sequence++;
+            AuditSegment segment = AuditSegment.open(target);
+            segments.add(segment);
+            return segment;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Newest first, at most limit rows. Segments are visited from the most recent one and skipped on their
+    // header alone when the range or action rules them out.
+    public List<AuditLog> search(LocalDateTime from, LocalDateTime to, String action, int limit) {
+        try {
+            refresh();
+        } catch (IOException e) {
+            System.err.println("Audit cold store: could not list " + root + ": " + e.getMessage());
+        }
+        List<AuditSegment> candidates = new ArrayList<>();
+        for (AuditSegment segment : segments) {
+            if (segment.mayContain(from, to, action)) {
+                candidates.add(segment);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(AuditSegment::maxTimestampMicros).reversed());
+        List<AuditLog> result = new ArrayList<>();
+        for (AuditSegment segment : candidates) {
+            // Once limit rows are held, a segment that ends before the oldest of them cannot contribute
+            if (result.size() >= limit
+                    && segment.maxTimestampMicros() < AuditSegment.micros(result.get(limit - 1).getTimestamp())) {
+                break;
+            }
+            result.addAll(segment.scan(from, to, action));
+            result.sort(Comparator.comparing(AuditLog::getTimestamp).thenComparing(AuditLog::getId).reversed());
+            if (result.size() > limit) {
+                result.subList(limit, result.size()).clear();
+            }
+        }
+        return result;
+    }
+
+    AuditSegment latest() {
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("audit-".length(), name.length() - ".seg".length()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskbridge.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.AuditLog;
+import com.taskbridge.repository.AuditLogRepository;
+
+// The audit log in two tiers: recent rows in audit_log, older ones sealed into AuditColdStore segments and
+// deleted from the table. Sealing always takes the oldest rows first, so every hot row is at least as new as
+// every cold one and a search can simply continue into the cold tier where the hot table runs out.
+@Service
+public class AuditLogService {
+
+    @Autowired
+    private AuditLogRepository auditLogRepo;
+
+    @Autowired
+    private AuditColdStore coldStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Sealing node only; the others read the segments it writes to the shared audit.cold.dir
+    @Value("${audit.cold.enabled:false}")
+    private boolean enabled;
+
+    @Value("${audit.cold.after-days:90}")
+    private int afterDays;
+
+    @Value("${audit.cold.segment-rows:20000}")
+    private int segmentRows;
+
+    @Value("${audit.cold.max-segments:10}")
+    private int maxSegments;
+
+    @Value("${audit.cold.delete-batch-size:1000}")
+    private int deleteBatchSize;
+
+    // Newest first; from and to are inclusive and any of the filters may be null
+    @Transactional(readOnly = true)
+    public List<AuditLog> search(LocalDateTime from, LocalDateTime to, String action, int limit) {
+        List<AuditLog> result = new ArrayList<>(auditLogRepo.search(from, to, action, PageRequest.of(0, limit)));
+        if (result.size() < limit) {
+            result.addAll(coldStore.search(from, to, action, limit - result.size()));
+        }
+        return result;
+    }
+
+    // Moves rows older than after-days into segments of up to segment-rows each. A segment is fsynced and
+    // renamed into place before its rows are deleted, so a failure in between leaves rows in both tiers,
+    // never in neither. Each run first finishes the deletes of the last segment, so those rows are not
+    // sealed a second time.
+    @Scheduled(cron = "${audit.cold.cron:0 30 3 * * *}")
+    public synchronized int sealColdEntries() {
+        if (!enabled) {
+            return 0;
+        }
+        finishInterruptedSeal();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        int sealed = 0;
+        for (int i = 0; i < maxSegments; i++) {
+            List<AuditLog> rows = auditLogRepo.findOlderThan(cutoff, PageRequest.of(0, segmentRows));
+            if (rows.isEmpty()) {
+                break;
+            }
+            AuditSegment segment;
+            try {
+                segment = coldStore.seal(rows);
+            } catch (IOException e) {
+                System.err.println("Audit cold store: sealing failed, rows stay in audit_log: " + e.getMessage());
+                break;
+            }
+            deleteHot(segment);
+            sealed += rows.size();
+            if (rows.size() < segmentRows) {
+                break;
+            }
+        }
+        if (sealed > 0) {
+            System.out.println("Audit cold store: sealed " + sealed + " audit entries older than " + afterDays
+                    + " days into " + coldStore.segmentCount() + " segments");
+        }
+        return sealed;
+    }
+
+    // Also on startup, so /admin/logs does not show the same rows from both tiers until the next run
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void finishInterruptedSeal() {
+        AuditSegment latest = coldStore.latest();
+        if (enabled && latest != null) {
+            deleteHot(latest);
+        }
+    }
+
+    private void deleteHot(AuditSegment segment) {
+        List<Long> ids = segment.ids();
+        for (int start = 0; start < ids.size(); start += deleteBatchSize) {
+            List<Long> batch = ids.subList(start, Math.min(ids.size(), start + deleteBatchSize));
+            transactionTemplate.executeWithoutResult(
+                    status -> auditLogRepo.deleteSealed(batch, segment.maxTimestamp()));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.taskbridge.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.taskbridge.entity.AuditLog;
+
+// One immutable file of sealed audit rows, sorted by timestamp. Layout:
+//   header  magic, version, row count, min/max timestamp, min/max id, action dictionary, column directory
+//   columns id deltas | timestamp deltas | action codes | user dictionary | user codes | details
+// Each column is Deflate-compressed on its own. The header is read once when the file is opened, so segments
+// that cannot match a query's time range or action are skipped without touching their columns; the columns
+// of a matching segment are inflated straight from the memory-mapped file.
+final class AuditSegment {
+
+    private static final long MAGIC = 0x5442415544495431L; // "TBAUDIT1"
+    private static final int VERSION = 1;
+    private static final int COLUMNS = 6;
+    private static final int IDS = 0;
+    private static final int TIMESTAMPS = 1;
+    private static final int ACTIONS = 2;
+    private static final int USER_DICTIONARY = 3;
+    private static final int USERS = 4;
+    private static final int DETAILS = 5;
+
+    private final Path file;
+    private final MappedByteBuffer data;
+    private final int rows;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final List<String> actions;
+    private final int[] offsets = new int[COLUMNS];
+    private final int[] compressedLengths = new int[COLUMNS];
+    private final int[] rawLengths = new int[COLUMNS];
+
+    private AuditSegment(Path file, MappedByteBuffer data) {
+        this.file = file;
+        this.data = data;
+        ByteBuffer in = data.duplicate();
+        if (in.getLong() != MAGIC || in.getInt() != VERSION) {
+            throw new IllegalStateException("Not an audit segment: " + file);
+        }
+        rows = in.getInt();
+        minTimestamp = in.getLong();
+        maxTimestamp = in.getLong();
+        in.getLong(); // min id
+        in.getLong(); // max id
+        actions = readStrings(in);
+        for (int c = 0; c < COLUMNS; c++) {
+            rawLengths[c] = in.getInt();
+            compressedLengths[c] = in.getInt();
+        }
+        int offset = in.position();
+        for (int c = 0; c < COLUMNS; c++) {
+            offsets[c] = offset;
+            offset += compressedLengths[c];
+        }
+        if (offset != data.capacity()) {
+            throw new IllegalStateException("Truncated audit segment: " + file);
+        }
+    }
+
+    static AuditSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new AuditSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // rows must be sorted by timestamp, then id
+    static void write(Path file, List<AuditLog> rows) throws IOException {
+        Map<String, Integer> actionCodes = new LinkedHashMap<>();
+        Map<String, Integer> userCodes = new LinkedHashMap<>();
+        ByteBuffer ids = ByteBuffer.allocate(rows.size() * Long.BYTES);
+        ByteBuffer timestamps = ByteBuffer.allocate(rows.size() * Long.BYTES);
+        ByteBuffer actionColumn = ByteBuffer.allocate(rows.size() * Integer.BYTES);
+        ByteBuffer userColumn = ByteBuffer.allocate(rows.size() * Integer.BYTES);
+        ByteArrayOutputStream details = new ByteArrayOutputStream();
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        long previousId = 0;
+        long previousTimestamp = 0;
+        for (AuditLog row : rows) {
+            long id = row.getId();
+            long timestamp = micros(row.getTimestamp());
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+            ids.putLong(id - previousId);
+            timestamps.putLong(timestamp - previousTimestamp);
+            previousId = id;
+            previousTimestamp = timestamp;
+            actionColumn.putInt(code(actionCodes, row.getAction()));
+            userColumn.putInt(code(userCodes, row.getPerformedBy()));
+            writeString(details, row.getDetails());
+        }
+        ByteArrayOutputStream userDictionary = new ByteArrayOutputStream();
+        writeInt(userDictionary, userCodes.size());
+        for (String user : userCodes.keySet()) {
+            writeString(userDictionary, user);
+        }
+
+        byte[][] raw = new byte[COLUMNS][];
+        raw[IDS] = ids.array();
+        raw[TIMESTAMPS] = timestamps.array();
+        raw[ACTIONS] = actionColumn.array();
+        raw[USER_DICTIONARY] = userDictionary.toByteArray();
+        raw[USERS] = userColumn.array();
+        raw[DETAILS] = details.toByteArray();
+        byte[][] compressed = new byte[COLUMNS][];
+        for (int c = 0; c < COLUMNS; c++) {
+            compressed[c] = deflate(raw[c]);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(header);
+        out.writeLong(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(rows.size());
+        out.writeLong(rows.isEmpty() ? 0 : micros(rows.get(0).getTimestamp()));
+        out.writeLong(rows.isEmpty() ? 0 : micros(rows.get(rows.size() - 1).getTimestamp()));
+        out.writeLong(rows.isEmpty() ? 0 : minId);
+        out.writeLong(rows.isEmpty() ? 0 : maxId);
+        out.writeInt(actionCodes.size());
+        for (String action : actionCodes.keySet()) {
+            byte[] bytes = action.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        for (int c = 0; c < COLUMNS; c++) {
+            out.writeInt(raw[c].length);
+            out.writeInt(compressed[c].length);
+        }
+        out.flush();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.wrap(header.toByteArray()));
+            for (byte[] column : compressed) {
+                writeFully(channel, ByteBuffer.wrap(column));
+            }
+            channel.force(true);
+        }
+    }
+
+    boolean mayContain(LocalDateTime from, LocalDateTime to, String action) {
+        if (rows == 0 || (from != null && maxTimestamp < micros(from)) || (to != null && minTimestamp > micros(to))) {
+            return false;
+        }
+        return action == null || actions.contains(action);
+    }
+
+    // Matching rows, oldest first
+    List<AuditLog> scan(LocalDateTime from, LocalDateTime to, String action) {
+        if (!mayContain(from, to, action)) {
+            return List.of();
+        }
+        long lower = from != null ? micros(from) : Long.MIN_VALUE;
+        long upper = to != null ? micros(to) : Long.MAX_VALUE;
+        int wanted = action != null ? actions.indexOf(action) : -2;
+        ByteBuffer timestamps = column(TIMESTAMPS);
+        ByteBuffer actionColumn = column(ACTIONS);
+        long[] matchTimestamps = new long[rows];
+        int[] matchRows = new int[rows];
+        int matches = 0;
+        long timestamp = 0;
+        for (int i = 0; i < rows; i++) {
+            timestamp += timestamps.getLong();
+            int actionCode = actionColumn.getInt();
+            if (timestamp >= lower && timestamp <= upper && (wanted == -2 || actionCode == wanted)) {
+                matchRows[matches] = i;
+                matchTimestamps[matches] = timestamp;
+                matches++;
+            }
+        }
+        if (matches == 0) {
+            return List.of();
+        }
+
+        ByteBuffer ids = column(IDS);
+        ByteBuffer users = column(USERS);
+        ByteBuffer details = column(DETAILS);
+        List<String> userDictionary = readStrings(column(USER_DICTIONARY));
+        actionColumn.rewind();
+        List<AuditLog> result = new ArrayList<>(matches);
+        long id = 0;
+        int next = 0;
+        for (int i = 0; i < rows && next < matches; i++) {
+            id += ids.getLong();
+            int userCode = users.getInt();
+            int actionCode = actionColumn.getInt();
+            String detail = readString(details);
+            if (matchRows[next] == i) {
+                result.add(new AuditLog(id, actionCode >= 0 ? actions.get(actionCode) : null,
+                        userCode >= 0 ? userDictionary.get(userCode) : null, detail,
+                        time(matchTimestamps[next])));
+                next++;
+            }
+        }
+        return result;
+    }
+
+    // Every row id, used to finish a seal whose delete from the hot table did not complete
+    List<Long> ids() {
+        ByteBuffer column = column(IDS);
+        List<Long> result = new ArrayList<>(rows);
+        long id = 0;
+        for (int i = 0; i < rows; i++) {
+            id += column.getLong();
+            result.add(id);
+        }
+        return result;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long sizeBytes() {
+        return data.capacity();
+    }
+
+    LocalDateTime maxTimestamp() {
+        return time(maxTimestamp);
+    }
+
+    long maxTimestampMicros() {
+        return maxTimestamp;
+    }
+
+    private ByteBuffer column(int c) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data.slice(offsets[c], compressedLengths[c]));
+            byte[] out = new byte[rawLengths[c]];
+            int read = 0;
+            while (read < out.length && !inflater.finished()) {
+                int n = inflater.inflate(out, read, out.length - read);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != out.length) {
+                throw new IllegalStateException("Corrupt column " + c + " in " + file);
+            }
+            return ByteBuffer.wrap(out);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt column " + c + " in " + file, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // Microseconds, the precision of the audit_log timestamp column
+    static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1000;
+    }
+
+    private static LocalDateTime time(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1000, ZoneOffset.UTC);
+    }
+
+    private static int code(Map<String, Integer> dictionary, String value) {
+        return value == null ? -1 : dictionary.computeIfAbsent(value, v -> dictionary.size());
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    // Length-prefixed UTF-8; -1 for null
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeInt(out, -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer in) {
+        int count = in.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
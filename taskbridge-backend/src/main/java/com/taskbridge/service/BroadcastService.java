@@ -0,0 +1,244 @@
+package com.taskbridge.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.BroadcastNotification;
+import com.taskbridge.entity.BroadcastReadState;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.BroadcastNotificationRepository;
+import com.taskbridge.repository.BroadcastReadStateRepository;
+import com.taskbridge.repository.NotificationRepository;
+
+// Notifications addressed to a role (or everyone) are stored once, with a compressed bitmap of reader user
+// ids, instead of one Notification row per recipient. They are merged into the personal feed as Notification
+// objects with negative ids (-broadcastId), so clients mark them read through the same endpoint.
+@Service
+public class BroadcastService {
+
+    @Autowired
+    private BroadcastNotificationRepository broadcastRepo;
+
+    @Autowired
+    private BroadcastReadStateRepository readStateRepo;
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Value("${notifications.broadcast.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${notifications.broadcast.max-retries:8}")
+    private int maxRetries;
+
+    @Value("${notifications.broadcast.retry-backoff-ms:10}")
+    private long retryBackoffMillis;
+
+    private final TransactionTemplate retryTx;
+
+    public BroadcastService(PlatformTransactionManager transactionManager) {
+        this.retryTx = new TransactionTemplate(transactionManager);
+        this.retryTx.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // A single insert regardless of how many users the audience covers
+    @Transactional
+    public BroadcastNotification broadcast(Role audience, String title, String message) {
+        BroadcastNotification broadcast = new BroadcastNotification();
+        broadcast.setAudience(audience);
+        broadcast.setTitle(title);
+        broadcast.setMessage(message);
+        return broadcastRepo.save(broadcast);
+    }
+
+    // Personal notifications and the broadcasts addressed to the user, newest first
+    @Transactional(readOnly = true)
+    public List<Notification> feed(User user) {
+        List<Notification> feed = new ArrayList<>(notificationRepo.findByUserOrderByTimestampDesc(user));
+        List<BroadcastNotification> broadcasts = visible(user);
+        if (broadcasts.isEmpty()) {
+            return feed;
+        }
+        Map<Long, BitSet> read = readers(broadcasts);
+        for (BroadcastNotification broadcast : broadcasts) {
+            BitSet readers = read.get(broadcast.getId());
+            feed.add(new Notification(-broadcast.getId(), user, broadcast.getTitle(), broadcast.getMessage(),
+                    readers != null && readers.get(bit(user)), broadcast.getTimestamp()));
+        }
+        feed.sort(Comparator.comparing(Notification::getTimestamp,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return feed;
+    }
+
+    @Transactional(readOnly = true)
+    public long unreadCount(User user) {
+        long unread = notificationRepo.countByUserAndIsRead(user, false);
+        List<BroadcastNotification> broadcasts = visible(user);
+        if (broadcasts.isEmpty()) {
+            return unread;
+        }
+        Map<Long, BitSet> read = readers(broadcasts);
+        for (BroadcastNotification broadcast : broadcasts) {
+            BitSet readers = read.get(broadcast.getId());
+            if (readers == null || !readers.get(bit(user))) {
+                unread++;
+            }
+        }
+        return unread;
+    }
+
+    // Returns false when the broadcast does not exist or is not addressed to the user
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean markRead(Long broadcastId, User user) {
+        BroadcastNotification broadcast = broadcastRepo.findById(broadcastId).orElse(null);
+        if (broadcast == null || (broadcast.getAudience() != null && broadcast.getAudience() != user.getRole())) {
+            return false;
+        }
+        setRead(broadcastId, bit(user));
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int markAllRead(User user) {
+        int updated = 0;
+        List<BroadcastNotification> broadcasts = visible(user);
+        Map<Long, BitSet> read = readers(broadcasts);
+        for (BroadcastNotification broadcast : broadcasts) {
+            BitSet readers = read.get(broadcast.getId());
+            if ((readers == null || !readers.get(bit(user))) && setRead(broadcast.getId(), bit(user))) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    // Broadcasts and their read state go together once past the retention window
+    @Scheduled(cron = "${notifications.retention.cron:0 15 3 * * *}")
+    @Transactional
+    public int purgeExpired() {
+        List<Long> ids = broadcastRepo.findIdsOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        readStateRepo.deleteAllByIdInBatch(ids);
+        broadcastRepo.deleteAllByIdInBatch(ids);
+        System.out.println("Broadcast retention: purged " + ids.size() + " broadcasts older than "
+                + retentionDays + " days");
+        return ids.size();
+    }
+
+    // Read-modify-write of one bitmap row. Two readers of the same broadcast race on the version column (or on
+    // the primary key for the first read); the loser waits a random share of an exponentially growing window,
+    // so a crowd of readers spreads out instead of colliding again, then re-reads and tries again.
+    private boolean setRead(Long broadcastId, int bit) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return Boolean.TRUE.equals(retryTx.execute(status -> {
+                    BroadcastReadState state = readStateRepo.findById(broadcastId).orElse(null);
+                    BitSet readers = state != null ? decode(state.getBitmap()) : new BitSet();
+                    if (readers.get(bit)) {
+                        return false;
+                    }
+                    readers.set(bit);
+                    if (state == null) {
+                        state = new BroadcastReadState();
+                        state.setBroadcastId(broadcastId);
+                    }
+                    state.setBitmap(encode(readers));
+                    state.setReaders(readers.cardinality());
+                    readStateRepo.save(state);
+                    return true;
+                }));
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long window = retryBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(window + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyFailureException("Interrupted while retrying broadcast read", e);
+        }
+    }
+
+    private List<BroadcastNotification> visible(User user) {
+        return broadcastRepo.findVisible(user.getRole(), LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    private Map<Long, BitSet> readers(List<BroadcastNotification> broadcasts) {
+        List<Long> ids = broadcasts.stream().map(BroadcastNotification::getId).toList();
+        return readStateRepo.findAllById(ids).stream().collect(Collectors.toMap(BroadcastReadState::getBroadcastId,
+                state -> decode(state.getBitmap()), (a, b) -> a));
+    }
+
+    private static int bit(User user) {
+        return Math.toIntExact(user.getId());
+    }
+
+    static byte[] encode(BitSet bits) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bits.toByteArray());
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static BitSet decode(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+            }
+            return BitSet.valueOf(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt broadcast read bitmap", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskbridge.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbridge.entity.ChatMessage;
+import com.taskbridge.security.TokenRevocations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Open chat sockets by user id, per node. Every socket is wrapped in a ConcurrentWebSocketSessionDecorator:
+// a send to a client that is still writing the previous frame is queued, and once that queue passes
+// buffer-bytes or a frame has been stuck for send-time-limit-ms the socket is closed instead of growing
+// further. The client reconnects and catches up through GET /messages?since=.
+@Service
+public class ChatHub {
+
+    public static final String USER_ID = "chat.userId";
+    public static final String EMAIL = "chat.email";
+    public static final String ISSUED_AT = "chat.issuedAt";
+    public static final String EXPIRES_AT = "chat.expiresAt";
+
+    private final Map<Long, Map<String, WebSocketSession>> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ObjectMapper mapper;
+    private final TokenRevocations revocations;
+    private final int sendTimeLimit;
+    private final int bufferBytes;
+    private final int maxPerUser;
+    private final Counter dropped;
+
+    public ChatHub(ObjectMapper mapper, TokenRevocations revocations, MeterRegistry meterRegistry,
+            @Value("${chat.ws.send-time-limit-ms:10000}") int sendTimeLimit,
+            @Value("${chat.ws.buffer-bytes:65536}") int bufferBytes,
+            @Value("${chat.ws.max-connections-per-user:5}") int maxPerUser) {
+        this.mapper = mapper;
+        this.revocations = revocations;
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferBytes = bufferBytes;
+        this.maxPerUser = maxPerUser;
+        Gauge.builder("taskbridge.chat.connections", open, AtomicInteger::get)
+                .description("Open chat WebSocket connections on this node")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("taskbridge.chat.dropped")
+                .description("Chat sockets closed because the client could not keep up or the send failed")
+                .register(meterRegistry);
+    }
+
+    // Returns the decorated session to send through, or null when the user already has maxPerUser sockets
+    public WebSocketSession register(Long userId, WebSocketSession session) {
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, bufferBytes);
+        AtomicBoolean added = new AtomicBoolean();
+        sessions.compute(userId, (id, current) -> {
+            Map<String, WebSocketSession> byId = current != null ? current : new ConcurrentHashMap<>();
+            if (byId.size() < maxPerUser) {
+                byId.put(session.getId(), decorated);
+                added.set(true);
+            }
+            return byId.isEmpty() ? null : byId;
+        });
+        if (!added.get()) {
+            return null;
+        }
+        open.incrementAndGet();
+        return decorated;
+    }
+
+    public void unregister(Long userId, String sessionId) {
+        AtomicBoolean removed = new AtomicBoolean();
+        sessions.computeIfPresent(userId, (id, byId) -> {
+            removed.set(byId.remove(sessionId) != null);
+            return byId.isEmpty() ? null : byId;
+        });
+        if (removed.get()) {
+            open.decrementAndGet();
+        }
+    }
+
+    public WebSocketSession session(Long userId, String sessionId) {
+        Map<String, WebSocketSession> byId = sessions.get(userId);
+        return byId != null ? byId.get(sessionId) : null;
+    }
+
+    // The frame is serialized once and shared by all of the user's sockets
+    public void deliver(Long userId, List<ChatMessage> messages) {
+        Map<String, WebSocketSession> byId = sessions.get(userId);
+        if (byId == null || byId.isEmpty()) {
+            return;
+        }
+        TextMessage frame;
+        try {
+            frame = new TextMessage(mapper.writeValueAsString(messages));
+        } catch (JsonProcessingException e) {
+            System.err.println("Chat frame serialization failed: " + e.getMessage());
+            return;
+        }
+        for (WebSocketSession session : byId.values()) {
+            send(userId, session, frame);
+        }
+    }
+
+    public void send(Long userId, WebSocketSession session, TextMessage frame) {
+        try {
+            session.sendMessage(frame);
+        } catch (IOException | RuntimeException e) {
+            // SessionLimitExceededException: the decorator has already closed the socket
+            dropped.increment();
+            unregister(userId, session.getId());
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    // Closes the sockets whose access token has expired or was revoked since the handshake. Revocations are
+    // only known to the node that made them, so elsewhere expiry is what ends a revoked token's socket.
+    @Scheduled(fixedDelayString = "${chat.ws.sweep-ms:30000}")
+    public void sweep() {
+        long now = System.currentTimeMillis() / 1000;
+        sessions.forEach((userId, byId) -> byId.values().forEach(session -> {
+            Object issuedAt = session.getAttributes().get(ISSUED_AT);
+            Object expiresAt = session.getAttributes().get(EXPIRES_AT);
+            if (!(expiresAt instanceof Long exp) || exp <= now
+                    || issuedAt instanceof Long iat && revocations.isRevoked(userId, iat)) {
+                unregister(userId, session.getId());
+                close(session, CloseStatus.POLICY_VIOLATION);
+            }
+        }));
+    }
+
+    public int connections() {
+        return open.get();
+    }
+
+    private static void close(WebSocketSession session, CloseStatus status) {
+        try {
+            if (session.isOpen()) {
+                session.close(status);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Already gone
+        }
+    }
+}
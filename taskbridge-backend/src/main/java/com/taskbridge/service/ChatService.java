@@ -0,0 +1,95 @@
+package com.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskbridge.entity.ChatMessage;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ChatMessageRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.UserRepository;
+
+// Support chat. A message and its bot reply are stored in one transaction and, once committed, pushed to
+// the user's open chat sockets; REST and WebSocket senders go through the same path.
+@Service
+@Transactional
+public class ChatService {
+
+    @Autowired
+    private ChatMessageRepository messageRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Autowired
+    private SupportAiService supportAiService;
+
+    @Autowired
+    private ChatHub hub;
+
+    @Value("${chat.max-content-length:4000}")
+    private int maxContentLength;
+
+    public ChatMessage send(String email, String content) {
+        content = content != null ? content.trim() : "";
+        if (content.isEmpty() || content.length() > maxContentLength) {
+            throw new IllegalArgumentException("Message must be 1 to " + maxContentLength + " characters");
+        }
+        User sender = userRepo.findByEmail(email).orElseThrow();
+        ChatMessage message = new ChatMessage();
+        message.setSender(sender);
+        message.setContent(content);
+        message.setType("sent");
+        ChatMessage saved = messageRepo.save(message);
+
+        // AI Bot Reply
+        ChatMessage botReply = new ChatMessage();
+        botReply.setContent(supportAiService.generateResponse(content));
+        botReply.setReceiver(sender);
+        botReply.setType("received");
+        messageRepo.save(botReply);
+
+        Notification notification = new Notification();
+        notification.setUser(sender);
+        notification.setTitle("New Support Message");
+        notification.setMessage("The Support Bot has replied to your query.");
+        notificationRepo.save(notification);
+
+        afterCommit(() -> hub.deliver(sender.getId(), List.of(saved, botReply)));
+        return saved;
+    }
+
+    // Whole conversation, or only what was stored at or after since (clients de-duplicate by id)
+    @Transactional(readOnly = true)
+    public List<ChatMessage> history(String email, LocalDateTime since) {
+        User user = userRepo.findByEmail(email).orElseThrow();
+        if (since == null) {
+            return messageRepo.findBySenderOrReceiverOrderByTimestampAsc(user, user);
+        }
+        return messageRepo.findConversationSince(user, since);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
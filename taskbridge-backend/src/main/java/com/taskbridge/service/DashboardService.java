@@ -0,0 +1,102 @@
+package com.taskbridge.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ChatMessageRepository;
+import com.taskbridge.repository.UserRepository;
+
+// Builds the manager and user dashboards in one call. The caller is resolved once, then each
+// sub-query runs concurrently on the bounded dashboard executor in its own read-only transaction.
+@Service
+public class DashboardService {
+
+    @Autowired
+    private BroadcastService broadcastService;
+
+    @Autowired
+    private ChatMessageRepository messageRepo;
+
+    @Autowired
+    private TaskQueryService taskQueryService;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private UserDirectory directory;
+
+    @Value("${dashboard.employees.page-size:50}")
+    private int employeePageSize;
+
+    @Autowired
+    @Qualifier("dashboardExecutor")
+    private TaskExecutor executor;
+
+    private final TransactionTemplate readOnlyTx;
+
+    public DashboardService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // In a short transaction of its own that ends before the fan-out: a caller's transaction held open across
+    // join() would pin one connection while the sub-queries wait on the same pool for theirs
+    public User caller(String email) {
+        return readOnlyTx.execute(status -> userRepo.findByEmail(email).orElseThrow());
+    }
+
+    public Map<String, Object> managerDashboard(User manager, boolean includeFinance) {
+        Map<String, CompletableFuture<?>> parts = new LinkedHashMap<>();
+        parts.put("tasks", submit(() -> taskQueryService.visibleTasks(manager, false)));
+        // First page only; the backup-assignee picker searches the directory for the rest
+        parts.put("employees", CompletableFuture.completedFuture(
+                directory.search(null, Role.USER, false, 0, employeePageSize).content()));
+        if (includeFinance) {
+            parts.put("financeStats", submit(() -> taskQueryService.financeStats(manager)));
+        }
+        Map<String, Object> result = join(parts);
+        result.put("currentUser", manager);
+        return result;
+    }
+
+    public Map<String, Object> userDashboard(User user) {
+        Map<String, CompletableFuture<?>> parts = new LinkedHashMap<>();
+        parts.put("tasks", submit(() -> taskQueryService.visibleTasks(user, false)));
+        parts.put("managers", CompletableFuture.completedFuture(directory.list(Role.MANAGER)));
+        parts.put("notifications", submit(() -> broadcastService.feed(user)));
+        parts.put("unreadCount", submit(() -> broadcastService.unreadCount(user)));
+        parts.put("messages", submit(() -> messageRepo.findBySenderOrReceiverOrderByTimestampAsc(user, user)));
+        Map<String, Object> result = join(parts);
+        result.put("currentUser", user);
+        return result;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTx.execute(status -> query.get()), executor);
+    }
+
+    private Map<String, Object> join(Map<String, CompletableFuture<?>> parts) {
+        try {
+            CompletableFuture.allOf(parts.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        parts.forEach((key, future) -> result.put(key, future.join()));
+        return result;
+    }
+}
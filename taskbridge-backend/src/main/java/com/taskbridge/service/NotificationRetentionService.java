@@ -0,0 +1,52 @@
+package com.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskbridge.repository.NotificationRepository;
+
+@Service
+public class NotificationRetentionService {
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Value("${notifications.retention.days:30}")
+    private int retentionDays;
+
+    @Value("${notifications.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notifications.retention.max-batches:20}")
+    private int maxBatches;
+
+    // Deletes read notifications past the retention window, a bounded batch at a time
+    // so a large backlog never turns into one long-running delete.
+    @Scheduled(cron = "${notifications.retention.cron:0 15 3 * * *}")
+    public int purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<Long> ids = notificationRepo.findReadIdsOlderThan(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            notificationRepo.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            System.out.println("Notification retention: purged " + deleted + " read notifications older than "
+                    + retentionDays + " days");
+        }
+        return deleted;
+    }
+}
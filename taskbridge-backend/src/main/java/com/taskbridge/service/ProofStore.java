@@ -0,0 +1,110 @@
+package com.taskbridge.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// Content-addressed file store for task completion proofs: each blob lives at <dir>/ab/cd/<sha-256> and is
+// written once, so identical uploads share one file. Uploads stream through a fixed 64 KB buffer into a
+// temp file while being hashed, then are moved into place; nothing holds a whole file in memory.
+// Blobs are never deleted here, since several tasks may reference the same hash.
+@Service
+public class ProofStore {
+
+    public record Blob(String hash, long size) {
+    }
+
+    public static class TooLargeException extends RuntimeException {
+        public TooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path incoming;
+    private final long maxBytes;
+
+    public ProofStore(@Value("${proofs.dir:data/proofs}") String dir,
+            @Value("${proofs.max-bytes:52428800}") long maxBytes) throws IOException {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.incoming = root.resolve("incoming");
+        this.maxBytes = maxBytes;
+        Files.createDirectories(incoming);
+    }
+
+    public Blob store(InputStream in) throws IOException {
+        MessageDigest sha = sha256();
+        Path temp = Files.createTempFile(incoming, "upload", ".tmp");
+        try {
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(in);
+                    FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxBytes) {
+                        throw new TooLargeException("Proof files are limited to " + maxBytes + " bytes");
+                    }
+                    sha.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+            String hash = HexFormat.of().formatHex(sha.digest());
+            Path target = path(hash);
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content uploaded concurrently
+                    Files.deleteIfExists(temp);
+                }
+            }
+            return new Blob(hash, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    public Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 hex digest: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskbridge.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.AuditLog;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.TaskEventRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.util.TimerWheel;
+
+// Watches deadlines of open tasks in an in-memory timer wheel. The wheel is rebuilt once at startup;
+// afterwards TaskWorkflowService keeps it current on every transition, so the task table is never rescanned.
+@Service
+public class SlaEscalationService {
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Autowired
+    private AuditLogRepository auditLogRepo;
+
+    @Autowired
+    private TaskEventRepository eventRepo;
+
+    @Value("${sla.priorities:LOW,MEDIUM,HIGH,URGENT}")
+    private Set<TaskPriority> priorities = EnumSet.allOf(TaskPriority.class);
+
+    private final TimerWheel<Long> wheel = new TimerWheel<>(1000, System.currentTimeMillis());
+
+    // Bounded like the workflow's transitions, since each escalation appends a task event
+    private final TransactionTemplate transactionTemplate;
+
+    public SlaEscalationService(PlatformTransactionManager transactionManager,
+            @Value("${events.transaction-timeout-s:20}") int transactionTimeout) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(transactionTimeout);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int tracked = 0;
+        for (Object[] row : taskRepo.findOpenDeadlines()) {
+            if (schedule((Long) row[0], (String) row[1], (TaskPriority) row[2])) {
+                tracked++;
+            }
+        }
+        System.out.println("SLA engine: tracking " + tracked + " open task deadlines");
+    }
+
+    // Call after any change to a task's status, deadline or priority
+    public void track(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        boolean open = "PENDING".equals(task.getStatus()) || "IN_PROGRESS".equals(task.getStatus());
+        if (!open || task.getEscalatedAt() != null
+                || !schedule(task.getId(), task.getDeadline(), task.getPriority())) {
+            wheel.cancel(task.getId());
+        }
+    }
+
+    public void untrack(Long taskId) {
+        wheel.cancel(taskId);
+    }
+
+    public int trackedCount() {
+        return wheel.size();
+    }
+
+    private boolean schedule(Long id, String deadline, TaskPriority priority) {
+        LocalDateTime due = parseDeadline(deadline);
+        if (due == null || (priority != null && !priorities.contains(priority))) {
+            return false;
+        }
+        wheel.schedule(id, due.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${sla.tick-ms:1000}")
+    public void tick() {
+        List<Long> expired = wheel.advance(System.currentTimeMillis());
+        if (!expired.isEmpty()) {
+            escalate(expired);
+        }
+    }
+
+    // Each task in its own transaction, so one failure does not hold back the rest
+    int escalate(List<Long> taskIds) {
+        int escalated = 0;
+        for (Long taskId : taskIds) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> escalate(taskId, status)))) {
+                    escalated++;
+                }
+            } catch (Exception e) {
+                System.err.println("SLA escalation failed for task " + taskId + ": " + e.getMessage());
+            }
+        }
+        return escalated;
+    }
+
+    // Every node watches the same deadlines, and a transition may commit between the wheel firing and this
+    // running. The conditional update decides: it matches only a task that is still open and not escalated,
+    // and holds the row lock from then on, so exactly one node notifies and audits, and a concurrent
+    // completion is never written back to PENDING. The hand-over is another narrow update, not a full-row save.
+    private boolean escalate(Long taskId, TransactionStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        if (taskRepo.markEscalated(taskId, now) == 0) {
+            return false;
+        }
+        Task task = taskRepo.findWithPartiesById(taskId).orElseThrow();
+        LocalDateTime due = parseDeadline(task.getDeadline());
+        if (due == null || due.isAfter(now)) {
+            // Deadline moved after the wheel fired; undo the claim and watch the new one
+            status.setRollbackOnly();
+            schedule(task.getId(), task.getDeadline(), task.getPriority());
+            return false;
+        }
+
+        User backup = task.getBackupAssignee();
+        User previous = task.getAssignedTo();
+        boolean handedOver = backup != null && (previous == null || !backup.getId().equals(previous.getId()));
+        if (handedOver) {
+            taskRepo.handOver(taskId, backup, now);
+            createNotification(backup, "SLA Escalation",
+                    "Task \"" + task.getTitle() + "\" passed its deadline and has been handed to you as backup.");
+        }
+        if (task.getAssignedBy() != null) {
+            createNotification(task.getAssignedBy(), "Deadline Missed",
+                    "Your request \"" + task.getTitle() + "\" is overdue"
+                            + (handedOver ? " and was reassigned to " + backup.getName() + "." : "."));
+        }
+
+        AuditLog log = new AuditLog();
+        log.setAction("SLA_ESCALATION");
+        log.setPerformedBy("system");
+        log.setDetails("Escalated overdue " + task.getPriority() + " task '" + task.getTitle() + "'"
+                + (handedOver ? " from " + (previous != null ? previous.getEmail() : "none") + " to "
+                        + backup.getEmail() : ""));
+        auditLogRepo.save(log);
+
+        // The status is unchanged; the assignee is the backup when the task was handed over
+        TaskEvent event = TaskEvent.of(task, task.getStatus(), TaskEventType.ESCALATED, null,
+                handedOver ? "Handed over to backup " + backup.getEmail() : null);
+        if (handedOver) {
+            event.setAssigneeId(backup.getId());
+        }
+        eventRepo.save(event);
+        return true;
+    }
+
+    private void createNotification(User user, String title, String message) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notificationRepo.save(notification);
+    }
+
+    // Deadlines come from a datetime-local input ("2025-03-01T17:00") or a plain date
+    static LocalDateTime parseDeadline(String deadline) {
+        if (deadline == null || deadline.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(deadline.trim());
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(deadline.trim()).atTime(23, 59, 59);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -2,10 +2,26 @@ package com.taskbridge.service;
 
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class SupportAiService {
 
+    private final Timer replyTimer;
+
+    public SupportAiService(MeterRegistry meterRegistry) {
+        this.replyTimer = Timer.builder("taskbridge.bot.reply")
+                .description("Time to generate a support bot reply")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     public String generateResponse(String message) {
+        return replyTimer.record(() -> buildResponse(message));
+    }
+
+    private String buildResponse(String message) {
         if (message == null || message.trim().isEmpty()) {
             return "I'm here to help! Please type your question or issue.";
         }
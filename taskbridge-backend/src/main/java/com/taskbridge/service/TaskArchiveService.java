@@ -0,0 +1,66 @@
+package com.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Task;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.TaskRepository;
+
+@Service
+public class TaskArchiveService {
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${tasks.archive.after-days:30}")
+    private int archiveAfterDays;
+
+    @Value("${tasks.archive.batch-size:200}")
+    private int batchSize;
+
+    @Value("${tasks.archive.max-batches:50}")
+    private int maxBatches;
+
+    // Moves finished tasks into archived_task so the primary table only holds open and recent work.
+    // Each batch is copied and deleted in its own transaction.
+    @Scheduled(cron = "${tasks.archive.cron:0 45 2 * * *}")
+    public int archiveFinishedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        int archived = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<Long> ids = taskRepo.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Task> tasks = taskRepo.findAllById(ids);
+                archivedTaskRepo.saveAll(tasks.stream().map(ArchivedTask::from).toList());
+                taskRepo.deleteAllInBatch(tasks);
+            });
+            archived += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            System.out.println("Task archive: moved " + archived + " finished tasks older than "
+                    + archiveAfterDays + " days");
+        }
+        return archived;
+    }
+}
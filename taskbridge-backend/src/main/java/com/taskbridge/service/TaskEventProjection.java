@@ -0,0 +1,25 @@
+package com.taskbridge.service;
+
+import java.util.List;
+
+import com.taskbridge.entity.TaskEvent;
+
+// A read model fed from the task_event stream by TaskEventProjector.
+public interface TaskEventProjection {
+
+    // Checkpoint key; must stay stable across releases
+    String name();
+
+    // Applies the next events in stream order, inside the transaction that advances the checkpoint
+    void apply(List<TaskEvent> events);
+
+    // Clears the read model for a rebuild and returns the position to replay from; 0 replays the whole stream
+    default long reset() {
+        return 0;
+    }
+
+    // False while the projection is not ready to consume yet (e.g. still backfilling)
+    default boolean ready() {
+        return true;
+    }
+}
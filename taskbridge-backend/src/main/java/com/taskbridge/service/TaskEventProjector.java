@@ -0,0 +1,178 @@
+package com.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.ProjectionCheckpoint;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.repository.ProjectionCheckpointRepository;
+import com.taskbridge.repository.TaskEventRepository;
+
+// Feeds every TaskEventProjection the events past its checkpoint, a batch per transaction. The transaction
+// first moves the checkpoint with a conditional update, so when several nodes poll at once only the one that
+// wins the row applies the batch; the others roll back and re-read.
+// Ids come from one counter but commit out of order, so a missing id may belong to a transaction that is still
+// running. A batch stops at the first gap, and only once this node has seen that gap for gap-timeout-ms is it
+// taken to be a rollback and skipped. Every transaction that appends events is cut off after
+// events.transaction-timeout-s, lock waits included, so a gap-timeout-ms well above that never skips a
+// transaction that could still commit. Commit order, not anyone's wall clock, decides what is read.
+@Service
+public class TaskEventProjector {
+
+    @Autowired
+    private List<TaskEventProjection> projections;
+
+    @Autowired
+    private TaskEventRepository eventRepo;
+
+    @Autowired
+    private ProjectionCheckpointRepository checkpointRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${events.projection.batch-size:500}")
+    private int batchSize;
+
+    @Value("${events.projection.gap-timeout-ms:60000}")
+    private long gapTimeoutMillis;
+
+    // Missing ids and when this node first noticed each (System.nanoTime)
+    private final Map<Long, Long> gaps = new ConcurrentHashMap<>();
+
+    static final class LostRace extends RuntimeException {
+        LostRace() {
+            super(null, null, false, false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.projection.poll-ms:1000}")
+    public void poll() {
+        for (TaskEventProjection projection : projections) {
+            if (projection.ready()) {
+                catchUp(projection);
+            }
+        }
+    }
+
+    // Returns the number of events applied
+    public synchronized long catchUp(TaskEventProjection projection) {
+        long applied = 0;
+        try {
+            if (!checkpointRepo.existsById(projection.name())) {
+                create(projection.name());
+            }
+            while (true) {
+                long position = position(projection.name());
+                List<TaskEvent> fetched = eventRepo.findBatch(position, PageRequest.of(0, batchSize));
+                List<TaskEvent> batch = untilGap(position, fetched);
+                if (batch.isEmpty()) {
+                    return applied;
+                }
+                long last = batch.get(batch.size() - 1).getId();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (checkpointRepo.advance(projection.name(), position, last, LocalDateTime.now()) != 1) {
+                            throw new LostRace();
+                        }
+                        projection.apply(batch);
+                    });
+                } catch (LostRace e) {
+                    // Another node applied this batch first; it carries on from there
+                    return applied;
+                }
+                applied += batch.size();
+                if (batch.size() < fetched.size() || fetched.size() < batchSize) {
+                    return applied;
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Projection " + projection.name() + " failed, retrying next poll: " + e.getMessage());
+            return applied;
+        }
+    }
+
+    // The leading run of events with consecutive ids after position, stepping over gaps that have timed out
+    List<TaskEvent> untilGap(long position, List<TaskEvent> fetched) {
+        long now = System.nanoTime();
+        long expected = position + 1;
+        int end = 0;
+        for (TaskEvent event : fetched) {
+            if (event.getId() > expected) {
+                // Keyed by the first missing id, so a wide jump in the counter is one entry
+                long seen = gaps.computeIfAbsent(expected, id -> now);
+                if (now - seen < gapTimeoutMillis * 1_000_000) {
+                    return fetched.subList(0, end);
+                }
+            }
+            expected = event.getId() + 1;
+            end++;
+        }
+        return fetched;
+    }
+
+    // Forgets gaps long since filled or skipped
+    @Scheduled(fixedDelayString = "${events.projection.gap-timeout-ms:60000}")
+    public void pruneGaps() {
+        long horizon = System.nanoTime() - 10 * gapTimeoutMillis * 1_000_000;
+        gaps.values().removeIf(seen -> seen - horizon < 0);
+    }
+
+    // Rebuilds a read model: the projection clears itself, then replays from the position it returns
+    public synchronized long rebuild(String name) {
+        TaskEventProjection projection = find(name);
+        long from = projection.reset();
+        transactionTemplate.executeWithoutResult(status -> save(name, from));
+        System.out.println("Projection " + name + " reset to position " + from + ", replaying");
+        return catchUp(projection);
+    }
+
+    // Where each projection stands and how many events it is behind the head of the stream
+    public List<Map<String, Object>> status() {
+        long head = eventRepo.findLastId();
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (TaskEventProjection projection : projections) {
+            long position = position(projection.name());
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", projection.name());
+            entry.put("position", position);
+            entry.put("behind", Math.max(0, head - position));
+            entry.put("ready", projection.ready());
+            result.add(entry);
+        }
+        return result;
+    }
+
+    public long position(String name) {
+        return checkpointRepo.findById(name).map(ProjectionCheckpoint::getPosition).orElse(0L);
+    }
+
+    public TaskEventProjection find(String name) {
+        return projections.stream().filter(p -> p.name().equals(name)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown projection: " + name));
+    }
+
+    private void save(String name, long position) {
+        checkpointRepo.save(new ProjectionCheckpoint(name, position, LocalDateTime.now()));
+    }
+
+    private void create(String name) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(name, 0));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created it
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.taskbridge.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskbridge.repository.TaskRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+
+// Open-task gauges by status and priority, refreshed from one GROUP BY query
+@Service
+public class TaskMetrics {
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    private final MultiGauge openTasks;
+
+    public TaskMetrics(MeterRegistry meterRegistry) {
+        this.openTasks = MultiGauge.builder("taskbridge.tasks.open")
+                .description("Open tasks by status and priority")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.tasks.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            List<MultiGauge.Row<?>> rows = new ArrayList<>();
+            for (Object[] r : taskRepo.countOpenByStatusAndPriority()) {
+                String status = r[0] != null ? r[0].toString() : "UNKNOWN";
+                String priority = r[1] != null ? r[1].toString() : "NONE";
+                rows.add(MultiGauge.Row.of(Tags.of("status", status, "priority", priority), (Number) r[2]));
+            }
+            openTasks.register(rows, true);
+        } catch (Exception e) {
+            System.err.println("Task metrics refresh failed: " + e.getMessage());
+        }
+    }
+}
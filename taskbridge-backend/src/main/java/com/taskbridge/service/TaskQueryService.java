@@ -0,0 +1,142 @@
+package com.taskbridge.service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.SparseFieldsetQuery;
+import com.taskbridge.repository.TaskRepository;
+
+// Task reads shared by TaskController and the composite dashboard endpoints
+@Service
+public class TaskQueryService {
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepo;
+
+    @Autowired
+    private SparseFieldsetQuery fieldsetQuery;
+
+    public List<Task> visibleTasks(User user, boolean includeArchived) {
+        List<Task> tasks;
+        if (user.getRole() == Role.ADMIN || user.getRole() == Role.MANAGER) {
+            tasks = taskRepo.findAll();
+            if (includeArchived) {
+                tasks = withArchived(tasks, archivedTaskRepo.findAll());
+            }
+        } else {
+            // User sees tasks they CREATED (Requests)
+            tasks = taskRepo.findByAssignedBy(user);
+            if (includeArchived) {
+                tasks = withArchived(tasks, archivedTaskRepo.findByAssignedBy(user));
+            }
+        }
+        return tasks;
+    }
+
+    // Same visibility as visibleTasks, but only the requested columns are selected
+    public List<Map<String, Object>> visibleTaskFields(User user, boolean includeArchived, String fields) {
+        Set<String> selected = SparseFieldsetQuery.parse(fields, Task.class);
+        boolean all = user.getRole() == Role.ADMIN || user.getRole() == Role.MANAGER;
+        List<Map<String, Object>> rows = new ArrayList<>(fieldsetQuery.select(Task.class, selected,
+                all ? null : (cb, root) -> cb.equal(root.get("assignedBy"), user)));
+        if (includeArchived) {
+            rows.addAll(fieldsetQuery.select(ArchivedTask.class, selected,
+                    all ? null : (cb, root) -> cb.equal(root.get("assignedBy"), user)));
+        }
+        return rows;
+    }
+
+    public Map<String, Object> financeStats(User manager) {
+        // Get all tasks assigned TO this manager, including archived history
+        List<Task> myTasks = withArchived(taskRepo.findByAssignedTo(manager),
+                archivedTaskRepo.findByAssignedTo(manager));
+
+        long completedCount = myTasks.stream().filter(t -> "COMPLETED".equals(t.getStatus())).count();
+        long rejectedCount = myTasks.stream().filter(t -> "REJECTED".equals(t.getStatus())).count();
+
+        // Earnings: $50 per completed task
+        double totalEarnings = completedCount * 50.0;
+
+        // Efficiency: completed / (completed + rejected) * 100, default 100 if no data
+        double efficiency = 100.0;
+        long denominator = completedCount + rejectedCount;
+        if (denominator > 0) {
+            efficiency = Math.round((completedCount * 100.0 / denominator) * 10.0) / 10.0;
+        }
+
+        // Avg completion time in hours (startedAt -> completedAt)
+        List<Task> completedTasks = myTasks.stream()
+                .filter(t -> "COMPLETED".equals(t.getStatus())
+                        && t.getStartedAt() != null
+                        && t.getCompletedAt() != null)
+                .toList();
+
+        double avgHours = 0.0;
+        if (!completedTasks.isEmpty()) {
+            double totalHours = completedTasks.stream()
+                    .mapToDouble(t -> Duration.between(t.getStartedAt(), t.getCompletedAt()).toMinutes() / 60.0)
+                    .sum();
+            avgHours = Math.round((totalHours / completedTasks.size()) * 10.0) / 10.0;
+        }
+
+        // Heatmap: count of tasks completed per day-of-week (last 90 days)
+        // Keys: MON, TUE, WED, THU, FRI, SAT, SUN
+        Map<String, Integer> heatmap = new LinkedHashMap<>();
+        String[] days = { "MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN" };
+        for (String d : days)
+            heatmap.put(d, 0);
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        myTasks.stream()
+                .filter(t -> "COMPLETED".equals(t.getStatus())
+                        && t.getCompletedAt() != null
+                        && t.getCompletedAt().isAfter(cutoff))
+                .forEach(t -> {
+                    DayOfWeek dow = t.getCompletedAt().getDayOfWeek();
+                    String key = switch (dow) {
+                        case MONDAY -> "MON";
+                        case TUESDAY -> "TUE";
+                        case WEDNESDAY -> "WED";
+                        case THURSDAY -> "THU";
+                        case FRIDAY -> "FRI";
+                        case SATURDAY -> "SAT";
+                        case SUNDAY -> "SUN";
+                    };
+                    heatmap.merge(key, 1, Integer::sum);
+                });
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("totalEarnings", totalEarnings);
+        result.put("efficiency", efficiency);
+        result.put("avgHours", avgHours);
+        result.put("completedCount", completedCount);
+        result.put("heatmap", heatmap);
+
+        return result;
+    }
+
+    private List<Task> withArchived(List<Task> live, List<ArchivedTask> archived) {
+        List<Task> all = new ArrayList<>(live.size() + archived.size());
+        all.addAll(live);
+        archived.forEach(a -> all.add(a.toTask()));
+        return all;
+    }
+}
@@ -0,0 +1,379 @@
+package com.taskbridge.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.TaskCategory;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.TaskRollup;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.ProjectionCheckpointRepository;
+import com.taskbridge.repository.TaskEventRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.repository.TaskRollupRepository;
+
+// Pre-aggregated task activity for /admin/analytics: a projection of the task_event stream into hourly
+// task_rollup rows, each batch applied with its checkpoint by TaskEventProjector. Hours older than the
+// retention window are compacted into daily rows, so a year-long range reads a few thousand rows at most.
+@Service
+public class TaskRollupService implements TaskEventProjection {
+
+    public static final String NAME = "task-rollups";
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    @Autowired
+    private TaskRollupRepository rollupRepo;
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepo;
+
+    @Autowired
+    private TaskEventRepository eventRepo;
+
+    @Autowired
+    private ProjectionCheckpointRepository checkpointRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.rollup.hourly-retention-days:7}")
+    private int hourlyRetentionDays;
+
+    @Value("${analytics.rollup.backfill-page:1000}")
+    private int backfillPage;
+
+    record Key(LocalDateTime bucketStart, TaskCategory category, TaskPriority priority) {
+    }
+
+    static final class Counts {
+        long created, assigned, completed, rejected, assignSeconds, completeSeconds, completeSamples;
+
+        void add(TaskRollup r) {
+            created += r.getCreated();
+            assigned += r.getAssigned();
+            completed += r.getCompleted();
+            rejected += r.getRejected();
+            assignSeconds += r.getAssignSeconds();
+            completeSeconds += r.getCompleteSeconds();
+            completeSamples += r.getCompleteSamples();
+        }
+
+        void addTo(TaskRollup r) {
+            r.setCreated(r.getCreated() + created);
+            r.setAssigned(r.getAssigned() + assigned);
+            r.setCompleted(r.getCompleted() + completed);
+            r.setRejected(r.getRejected() + rejected);
+            r.setAssignSeconds(r.getAssignSeconds() + assignSeconds);
+            r.setCompleteSeconds(r.getCompleteSeconds() + completeSeconds);
+            r.setCompleteSamples(r.getCompleteSamples() + completeSamples);
+        }
+    }
+
+    // Consumption waits for the startup backfill
+    private volatile boolean backfilled;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean ready() {
+        if (!backfilled && checkpointRepo.existsById(NAME)) {
+            backfilled = true;
+        }
+        return backfilled;
+    }
+
+    // Buckets by the hour the event happened in. Completing or rejecting a task that is already in that state
+    // is recorded in the stream but not counted again.
+    @Override
+    public synchronized void apply(List<TaskEvent> events) {
+        Map<Key, Counts> batch = new HashMap<>();
+        for (TaskEvent event : events) {
+            if (event.getStatus() != null && event.getStatus().equals(event.getPreviousStatus())
+                    && (event.getType() == TaskEventType.COMPLETED || event.getType() == TaskEventType.RESOLVED
+                            || event.getType() == TaskEventType.REJECTED)) {
+                continue;
+            }
+            Key key = new Key(event.getOccurredAt().truncatedTo(ChronoUnit.HOURS), event.getCategory(),
+                    event.getPriority());
+            long age = event.getTaskAgeSeconds() != null ? event.getTaskAgeSeconds() : 0;
+            switch (event.getType()) {
+                case CREATED -> batch.computeIfAbsent(key, k -> new Counts()).created++;
+                case ASSIGNED -> {
+                    Counts c = batch.computeIfAbsent(key, k -> new Counts());
+                    c.assigned++;
+                    c.assignSeconds += age;
+                }
+                case COMPLETED -> {
+                    Counts c = batch.computeIfAbsent(key, k -> new Counts());
+                    c.completed++;
+                    c.completeSeconds += age;
+                    c.completeSamples++;
+                }
+                case RESOLVED -> batch.computeIfAbsent(key, k -> new Counts()).completed++;
+                case REJECTED -> batch.computeIfAbsent(key, k -> new Counts()).rejected++;
+                default -> {
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            merge(HOUR, batch);
+        }
+    }
+
+    // Rebuilt from the task tables rather than the stream, which only starts with the event log.
+    // Transitions made while the scan runs may be counted twice: once by the scan, once on replay.
+    @Override
+    public synchronized long reset() {
+        long from = eventRepo.findLastId();
+        rollupRepo.deleteAllInBatch();
+        rebuild();
+        return from;
+    }
+
+    private void merge(String granularity, Map<Key, Counts> batch) {
+        List<LocalDateTime> starts = batch.keySet().stream().map(Key::bucketStart).distinct().toList();
+        Map<Key, TaskRollup> rows = new HashMap<>();
+        for (TaskRollup row : rollupRepo.findByGranularityAndBucketStartIn(granularity, starts)) {
+            rows.put(new Key(row.getBucketStart(), row.getCategory(), row.getPriority()), row);
+        }
+        batch.forEach((key, counts) -> counts.addTo(rows.computeIfAbsent(key, k -> newRow(granularity, k))));
+        rollupRepo.saveAll(rows.values());
+    }
+
+    private static TaskRollup newRow(String granularity, Key key) {
+        TaskRollup row = new TaskRollup();
+        row.setGranularity(granularity);
+        row.setBucketStart(key.bucketStart());
+        row.setCategory(key.category());
+        row.setPriority(key.priority());
+        return row;
+    }
+
+    // Folds hourly rows older than the retention window into one daily row per category and priority,
+    // a day per transaction. Every node runs this; each day is folded under the checkpoint row lock, so a node
+    // that waited on another one finds the hours already gone, and no batch is applied mid-fold.
+    // Not synchronized: apply() takes the monitor while holding that lock.
+    @Scheduled(cron = "${analytics.rollup.compact-cron:0 20 * * * *}")
+    public int compact() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+        int days = 0;
+        while (true) {
+            Optional<TaskRollup> oldest = rollupRepo.findFirstByGranularityAndBucketStartLessThanOrderByBucketStart(HOUR,
+                    cutoff);
+            if (oldest.isEmpty()) {
+                break;
+            }
+            LocalDateTime day = oldest.get().getBucketStart().truncatedTo(ChronoUnit.DAYS);
+            Boolean folded = transactionTemplate.execute(status -> {
+                if (checkpointRepo.lock(NAME).isEmpty()) {
+                    // Not backfilled yet; the backfill compacts when it is done
+                    return null;
+                }
+                List<TaskRollup> hours = rollupRepo
+                        .findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThan(HOUR, day, day.plusDays(1));
+                Map<Key, Counts> byDay = new HashMap<>();
+                for (TaskRollup hour : hours) {
+                    byDay.computeIfAbsent(new Key(day, hour.getCategory(), hour.getPriority()), k -> new Counts())
+                            .add(hour);
+                }
+                merge(DAY, byDay);
+                rollupRepo.deleteAllInBatch(hours);
+                return !hours.isEmpty();
+            });
+            if (folded == null) {
+                break;
+            }
+            if (folded) {
+                days++;
+            }
+        }
+        if (days > 0) {
+            System.out.println("Task rollups: compacted " + days + " days of hourly buckets into daily buckets");
+        }
+        return days;
+    }
+
+    // First start with the event log: rebuild the buckets from task and archived_task timestamps, then consume
+    // events from the current end of the stream. Rejections carry no timestamp of their own and are bucketed
+    // like the archiver treats them.
+    // The checkpoint is inserted first and the rebuild runs in the same transaction, so when several nodes
+    // start together the others block on that row and then fail on the duplicate key; they are ready once
+    // the winner commits.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (checkpointRepo.existsById(NAME)) {
+            backfilled = true;
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                checkpointRepo.insert(NAME, eventRepo.findLastId(), LocalDateTime.now());
+                rollupRepo.deleteAllInBatch();
+                rebuild();
+            });
+            backfilled = true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node backfilled
+        } catch (RuntimeException e) {
+            System.err.println("Task rollups: backfill failed, waiting for another node: " + e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        Map<Key, Counts> buckets = new HashMap<>();
+        long tasks = scan(buckets, false) + scan(buckets, true);
+        if (tasks == 0) {
+            return;
+        }
+        List<TaskRollup> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, counts) -> {
+            TaskRollup row = newRow(HOUR, key);
+            counts.addTo(row);
+            rows.add(row);
+        });
+        for (int i = 0; i < rows.size(); i += backfillPage) {
+            List<TaskRollup> chunk = rows.subList(i, Math.min(rows.size(), i + backfillPage));
+            transactionTemplate.executeWithoutResult(status -> rollupRepo.saveAll(chunk));
+        }
+        System.out.println("Task rollups: backfilled " + rows.size() + " hourly buckets from " + tasks + " tasks");
+        compact();
+    }
+
+    private long scan(Map<Key, Counts> buckets, boolean archived) {
+        long scanned = 0;
+        long after = 0;
+        while (true) {
+            List<Object[]> page = archived
+                    ? archivedTaskRepo.findRollupRows(after, PageRequest.of(0, backfillPage))
+                    : taskRepo.findRollupRows(after, PageRequest.of(0, backfillPage));
+            for (Object[] row : page) {
+                LocalDateTime createdAt = (LocalDateTime) row[1];
+                LocalDateTime assignedAt = (LocalDateTime) row[2];
+                LocalDateTime completedAt = (LocalDateTime) row[3];
+                String status = (String) row[4];
+                TaskCategory category = (TaskCategory) row[5];
+                TaskPriority priority = (TaskPriority) row[6];
+                if (createdAt == null) {
+                    continue;
+                }
+                bucket(buckets, createdAt, category, priority).created++;
+                if (assignedAt != null) {
+                    Counts c = bucket(buckets, assignedAt, category, priority);
+                    c.assigned++;
+                    c.assignSeconds += seconds(createdAt, assignedAt);
+                }
+                LocalDateTime finishedAt = completedAt != null ? completedAt : createdAt;
+                if ("COMPLETED".equals(status)) {
+                    Counts c = bucket(buckets, finishedAt, category, priority);
+                    c.completed++;
+                    if (completedAt != null) {
+                        c.completeSeconds += seconds(createdAt, completedAt);
+                        c.completeSamples++;
+                    }
+                } else if ("REJECTED".equals(status)) {
+                    bucket(buckets, finishedAt, category, priority).rejected++;
+                }
+            }
+            scanned += page.size();
+            if (page.size() < backfillPage) {
+                return scanned;
+            }
+            after = (Long) page.get(page.size() - 1)[0];
+        }
+    }
+
+    private static long seconds(LocalDateTime from, LocalDateTime to) {
+        return from != null && to != null ? Math.max(0, Duration.between(from, to).getSeconds()) : 0;
+    }
+
+    private static Counts bucket(Map<Key, Counts> buckets, LocalDateTime at, TaskCategory category,
+            TaskPriority priority) {
+        return buckets.computeIfAbsent(new Key(at.truncatedTo(ChronoUnit.HOURS), category, priority), k -> new Counts());
+    }
+
+    // Sums every bucket in [from, to), trailing the event stream by the projector's poll interval.
+    // Daily buckets (older than the hourly window) land on midnight even
+    // when hourly series are requested.
+    public Map<String, Object> analytics(LocalDateTime from, LocalDateTime to, boolean hourly) {
+        Counts total = new Counts();
+        Map<LocalDateTime, Counts> series = new TreeMap<>();
+        Map<String, Counts> byCategory = new TreeMap<>();
+        Map<String, Counts> byPriority = new TreeMap<>();
+        for (TaskRollup row : rollupRepo.findByBucketStartGreaterThanEqualAndBucketStartLessThan(from, to)) {
+            LocalDateTime bucket = hourly ? row.getBucketStart() : row.getBucketStart().truncatedTo(ChronoUnit.DAYS);
+            total.add(row);
+            series.computeIfAbsent(bucket, k -> new Counts()).add(row);
+            byCategory.computeIfAbsent(String.valueOf(row.getCategory()), k -> new Counts()).add(row);
+            byPriority.computeIfAbsent(String.valueOf(row.getPriority()), k -> new Counts()).add(row);
+        }
+
+        List<Map<String, Object>> points = new ArrayList<>(series.size());
+        series.forEach((bucket, counts) -> {
+            Map<String, Object> point = counts(counts);
+            point.put("bucket", bucket);
+            points.add(point);
+        });
+        Map<String, Object> totals = counts(total);
+        totals.put("assigned", total.assigned);
+        totals.put("avgHoursToAssign", hours(total.assignSeconds, total.assigned));
+        totals.put("avgHoursToComplete", hours(total.completeSeconds, total.completeSamples));
+        long finished = total.completed + total.rejected;
+        totals.put("successRate", finished > 0 ? Math.round(total.completed * 1000.0 / finished) / 10.0 : 0.0);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("from", from);
+        result.put("to", to);
+        result.put("bucket", hourly ? "hour" : "day");
+        result.put("totals", totals);
+        result.put("series", points);
+        result.put("byCategory", breakdown(byCategory));
+        result.put("byPriority", breakdown(byPriority));
+        return result;
+    }
+
+    private static Map<String, Object> counts(Counts counts) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("created", counts.created);
+        map.put("completed", counts.completed);
+        map.put("rejected", counts.rejected);
+        return map;
+    }
+
+    private static Map<String, Object> breakdown(Map<String, Counts> groups) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        groups.forEach((name, counts) -> map.put(name, counts(counts)));
+        return map;
+    }
+
+    private static double hours(long seconds, long samples) {
+        return samples > 0 ? Math.round(seconds / 360.0 / samples) / 10.0 : 0.0;
+    }
+}
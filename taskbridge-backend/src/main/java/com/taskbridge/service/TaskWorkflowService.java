@@ -0,0 +1,363 @@
+package com.taskbridge.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.AuditLog;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.TaskEventRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.repository.UserRepository;
+
+// The task state machine. Each transition is one transaction: the caller and the task (fetch-joined with its
+// users) are loaded once, the task is changed in place and flushed as a single update at commit together with
+// its task_event and notification or audit row. SLA tracking is in-memory and only applied once the
+// transaction has committed. Transitions are bounded by events.transaction-timeout-s: the event id is taken
+// mid-transaction, and TaskEventProjector only waits so long for it to commit.
+@Service
+@Transactional(timeoutString = "${events.transaction-timeout-s:20}")
+public class TaskWorkflowService {
+
+    // Caller is not allowed to make this transition
+    public static class DeniedException extends RuntimeException {
+        public DeniedException(String message) {
+            super(message);
+        }
+    }
+
+    // Another transition got to the task first; a concurrent one surfaces at commit as an optimistic lock failure
+    public static class ConflictException extends RuntimeException {
+        public ConflictException(String message) {
+            super(message);
+        }
+    }
+
+    @Autowired
+    private TaskRepository taskRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private NotificationRepository notificationRepo;
+
+    @Autowired
+    private AuditLogRepository auditLogRepo;
+
+    @Autowired
+    private SlaEscalationService slaService;
+
+    @Autowired
+    private TaskEventRepository eventRepo;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepo;
+
+    @Autowired
+    private BroadcastService broadcastService;
+
+    public Task create(Task task, String creatorEmail) {
+        User creator = caller(creatorEmail);
+        task.setAssignedBy(creator);
+        task.setStatus("PENDING");
+        if (task.getAssignedTo() != null && task.getAssignedTo().getId() != null) {
+            User assignee = userRepo.findById(task.getAssignedTo().getId())
+                    .orElseThrow(() -> new RuntimeException("Assignee not found"));
+            task.setAssignedTo(assignee);
+            task.setAssignedAt(LocalDateTime.now());
+        }
+        Task saved = taskRepo.save(task);
+        event(saved, null, TaskEventType.CREATED, creator, null);
+        if (saved.getAssignedAt() != null) {
+            event(saved, saved.getStatus(), TaskEventType.ASSIGNED, creator, null);
+        }
+        notify(creator, "Task Created", "Your request \"" + saved.getTitle() + "\" has been submitted successfully.");
+        if (saved.getPriority() == TaskPriority.URGENT) {
+            broadcastService.broadcast(Role.MANAGER, "Urgent Request",
+                    creator.getName() + " submitted an URGENT request: \"" + saved.getTitle() + "\".");
+        }
+        afterCommit(() -> slaService.track(saved));
+        return saved;
+    }
+
+    // Only the assignee can start
+    public Task start(Long id, String email) {
+        User user = caller(email);
+        Task task = load(id);
+        if (!is(task.getAssignedTo(), user)) {
+            throw new DeniedException("Unauthorized to start this task");
+        }
+        String previous = task.getStatus();
+        task.setStatus("IN_PROGRESS");
+        task.setStartedAt(LocalDateTime.now());
+        event(task, previous, TaskEventType.STARTED, user, null);
+        if (task.getAssignedBy() != null) {
+            notify(task.getAssignedBy(), "Operation Started",
+                    "Field Agent " + user.getName() + " has started \"" + task.getTitle() + "\".");
+        }
+        return task;
+    }
+
+    // Assignee, requester or admin
+    public Task complete(Long id, String email, Map<String, String> data) {
+        User user = caller(email);
+        Task task = load(id);
+        if (!is(task.getAssignedTo(), user) && !is(task.getAssignedBy(), user) && user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized");
+        }
+        String previous = task.getStatus();
+        task.setStatus("COMPLETED");
+        task.setCompletedAt(LocalDateTime.now());
+        if (data.containsKey("feedback")) {
+            task.setFeedback(data.get("feedback"));
+        }
+        if (data.containsKey("proof")) {
+            task.setCompletionProof(data.get("proof"));
+        }
+        event(task, previous, TaskEventType.COMPLETED, user, task.getFeedback());
+        if (task.getAssignedBy() != null) {
+            notify(task.getAssignedBy(), "Task Complete",
+                    "Your request \"" + task.getTitle() + "\" has been finalized and verified.");
+        }
+        afterCommit(() -> slaService.untrack(task.getId()));
+        return task;
+    }
+
+    public Task reject(Long id, String email, String reason) {
+        User user = caller(email);
+        if (user.getRole() != Role.MANAGER && user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized");
+        }
+        Task task = load(id);
+        String previous = task.getStatus();
+        task.setStatus("REJECTED");
+        task.setRejectionReason(reason);
+        event(task, previous, TaskEventType.REJECTED, user, reason);
+        if (task.getAssignedBy() != null) {
+            notify(task.getAssignedBy(), "Task Rejected",
+                    "Your request \"" + task.getTitle() + "\" was rejected. Reason: " + reason);
+        }
+        afterCommit(() -> slaService.untrack(task.getId()));
+        return task;
+    }
+
+    public Task claim(Long id, String email, Map<String, String> data) {
+        User user = caller(email);
+        Task task = load(id);
+        if (task.getAssignedTo() != null) {
+            throw new ConflictException("Task already assigned");
+        }
+        task.setAssignedTo(user);
+        task.setAssignedAt(LocalDateTime.now());
+        String previous = task.getStatus();
+        task.setStatus("PENDING");
+        if (data != null && data.containsKey("toDoPlan")) {
+            task.setToDoPlan(data.get("toDoPlan"));
+        }
+        event(task, previous, TaskEventType.ASSIGNED, user, null);
+        if (task.getAssignedBy() != null) {
+            notify(task.getAssignedBy(), "Assigned to Agent",
+                    "Field Agent " + user.getName() + " has accepted your mission: " + task.getTitle());
+        }
+        return task;
+    }
+
+    // Only the requester or admin can re-request
+    public Task reRequest(Long id, String email) {
+        User user = caller(email);
+        Task task = load(id);
+        if (!is(task.getAssignedBy(), user) && user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized to re-request this task");
+        }
+        String previous = task.getStatus();
+        task.setStatus("PENDING");
+        task.setCompletedAt(null);
+        task.setFeedback(null);
+        task.setEscalatedAt(null);
+        event(task, previous, TaskEventType.REREQUESTED, user, null);
+        afterCommit(() -> slaService.track(task));
+        return task;
+    }
+
+    public Task reassign(Long id, String adminEmail, Long newAssigneeId) {
+        User admin = requireAdmin(adminEmail);
+        Task task = load(id);
+        User assignee = userRepo.findById(newAssigneeId).orElseThrow();
+        User oldAssignee = task.getAssignedTo();
+        task.setAssignedTo(assignee);
+        String previous = task.getStatus();
+        task.setStatus("PENDING");
+        event(task, previous, TaskEventType.REASSIGNED, admin, null);
+        audit(admin, "REASSIGN_TASK", "Reassigned task '" + task.getTitle() + "' from "
+                + (oldAssignee != null ? oldAssignee.getEmail() : "none") + " to " + assignee.getEmail());
+        afterCommit(() -> slaService.track(task));
+        return task;
+    }
+
+    public Task resolve(Long id, String adminEmail) {
+        User admin = requireAdmin(adminEmail);
+        Task task = load(id);
+        String previous = task.getStatus();
+        task.setStatus("COMPLETED");
+        event(task, previous, TaskEventType.RESOLVED, admin, null);
+        audit(admin, "RESOLVE_TASK", "Administratively resolved task '" + task.getTitle() + "'");
+        afterCommit(() -> slaService.untrack(task.getId()));
+        return task;
+    }
+
+    public Task setQualityScore(Long id, String email, int score) {
+        User manager = requireManager(email);
+        Task task = load(id);
+        if (score < 1 || score > 5) {
+            throw new IllegalArgumentException("Score must be between 1 and 5");
+        }
+        task.setQualityScore(score);
+        event(task, TaskEventType.SCORED, manager, String.valueOf(score));
+        if (task.getAssignedBy() != null) {
+            notify(task.getAssignedBy(), "Quality Review",
+                    "Your task \"" + task.getTitle() + "\" received a quality score of " + score + "/5.");
+        }
+        return task;
+    }
+
+    public Task setBackupAssignee(Long id, String email, Long backupId) {
+        User manager = requireManager(email);
+        Task task = load(id);
+        if (backupId == null) {
+            throw new IllegalArgumentException("backupUserId is required");
+        }
+        User backup = userRepo.findById(backupId).orElseThrow(() -> new RuntimeException("Backup user not found"));
+        task.setBackupAssignee(backup);
+        event(task, TaskEventType.BACKUP_ASSIGNED, manager, String.valueOf(backup.getId()));
+        notify(backup, "Backup Assignment",
+                "You have been set as the backup assignee for task \"" + task.getTitle() + "\".");
+        return task;
+    }
+
+    // Reference to a stored proof file, from a live or an archived task
+    public record ProofFile(String hash, String name, String contentType) {
+    }
+
+    // Uploading a proof is allowed to whoever may complete the task; viewing it also to the backup and managers.
+    // Archived tasks keep their proof for viewing but take no new uploads.
+    @Transactional(readOnly = true)
+    public ProofFile proofAccess(Long id, String email, boolean upload) {
+        User user = caller(email);
+        Task task = taskRepo.findWithPartiesById(id).orElse(null);
+        if (task != null) {
+            checkProofAccess(task.getAssignedTo(), task.getAssignedBy(), task.getBackupAssignee(), user, upload);
+            return new ProofFile(task.getProofHash(), task.getProofName(), task.getProofContentType());
+        }
+        ArchivedTask archived = upload ? null : archivedTaskRepo.findById(id).orElse(null);
+        if (archived == null) {
+            throw new NoSuchElementException("Task not found");
+        }
+        checkProofAccess(archived.getAssignedTo(), archived.getAssignedBy(), archived.getBackupAssignee(), user, false);
+        return new ProofFile(archived.getProofHash(), archived.getProofName(), archived.getProofContentType());
+    }
+
+    private static void checkProofAccess(User assignedTo, User assignedBy, User backup, User user, boolean upload) {
+        boolean completer = is(assignedTo, user) || is(assignedBy, user) || user.getRole() == Role.ADMIN;
+        boolean viewer = is(backup, user) || user.getRole() == Role.MANAGER;
+        if (!completer && (upload || !viewer)) {
+            throw new DeniedException("Unauthorized");
+        }
+    }
+
+    public Task attachProof(Long id, String email, ProofStore.Blob blob, String name, String contentType) {
+        User user = caller(email);
+        Task task = load(id);
+        if (!is(task.getAssignedTo(), user) && !is(task.getAssignedBy(), user) && user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized");
+        }
+        task.setProofHash(blob.hash());
+        task.setProofSize(blob.size());
+        task.setProofName(name);
+        task.setProofContentType(contentType);
+        event(task, TaskEventType.PROOF_ATTACHED, user, name);
+        return task;
+    }
+
+    private User caller(String email) {
+        return userRepo.findByEmail(email).orElseThrow();
+    }
+
+    private Task load(Long id) {
+        return taskRepo.findWithPartiesById(id).orElseThrow();
+    }
+
+    private User requireAdmin(String email) {
+        User user = caller(email);
+        if (user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized");
+        }
+        return user;
+    }
+
+    private User requireManager(String email) {
+        User user = caller(email);
+        if (user.getRole() != Role.MANAGER && user.getRole() != Role.ADMIN) {
+            throw new DeniedException("Unauthorized");
+        }
+        return user;
+    }
+
+    private static boolean is(User party, User user) {
+        return party != null && party.getId().equals(user.getId());
+    }
+
+    // For events that leave the status as it is
+    private void event(Task task, TaskEventType type, User actor, String detail) {
+        event(task, task.getStatus(), type, actor, detail);
+    }
+
+    private void event(Task task, String previousStatus, TaskEventType type, User actor, String detail) {
+        eventRepo.save(TaskEvent.of(task, previousStatus, type, actor.getId(), detail));
+    }
+
+    private void notify(User user, String title, String message) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        notificationRepo.save(notification);
+    }
+
+    private void audit(User admin, String action, String details) {
+        AuditLog log = new AuditLog();
+        log.setAction(action);
+        log.setPerformedBy(admin.getEmail());
+        log.setDetails(details);
+        auditLogRepo.save(log);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.taskbridge.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.UserRepository;
+import com.taskbridge.repository.UserSummary;
+
+// In-memory user directory for listings and assignee pickers. The full name, each name word and the email
+// are kept in a sorted index ("token\0id"), so a prefix search is a range scan instead of a table scan.
+// Loaded at startup, kept current by the controllers that change users, and fully reloaded periodically
+// to pick up anything written elsewhere.
+@Service
+public class UserDirectory {
+
+    private static final char SEP = '\0';
+
+    @Autowired
+    private UserRepository userRepo;
+
+    private static final class Index {
+        final Map<Long, UserSummary> byId = new ConcurrentHashMap<>();
+        final ConcurrentSkipListMap<String, Long> byName = new ConcurrentSkipListMap<>();
+        final ConcurrentSkipListMap<String, Long> byToken = new ConcurrentSkipListMap<>();
+    }
+
+    // Null until first loaded; requests that arrive before the startup load trigger it themselves
+    private volatile Index index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${users.directory.refresh-ms:300000}",
+            fixedDelayString = "${users.directory.refresh-ms:300000}")
+    public synchronized void reload() {
+        Index fresh = new Index();
+        for (UserSummary user : userRepo.findAllSummaries()) {
+            add(fresh, user);
+        }
+        index = fresh;
+    }
+
+    private Index current() {
+        Index current = index;
+        if (current == null) {
+            synchronized (this) {
+                if (index == null) {
+                    reload();
+                }
+                current = index;
+            }
+        }
+        return current;
+    }
+
+    public synchronized void put(User user) {
+        Index current = current();
+        UserSummary previous = current.byId.get(user.getId());
+        if (previous != null) {
+            drop(current, previous);
+        }
+        add(current, UserSummary.of(user));
+    }
+
+    public synchronized void remove(Long id) {
+        Index current = current();
+        UserSummary previous = current.byId.get(id);
+        if (previous != null) {
+            drop(current, previous);
+        }
+    }
+
+    /** Every user with the role (or all users), ordered by name. */
+    public List<UserSummary> list(Role role) {
+        return new ArrayList<>(search(null, role, true, 0, Integer.MAX_VALUE).content());
+    }
+
+    public record Page(List<UserSummary> content, int page, int size, int total) {
+    }
+
+    // Users whose name (any word) or email starts with the query, ordered by the matching token;
+    // without a query, all users ordered by name
+    public Page search(String query, Role role, boolean includeSuspended, int page, int size) {
+        Index current = current();
+        Predicate<UserSummary> filter = u -> (role == null || u.role() == role) && (includeSuspended || !u.suspended());
+        Iterable<Long> ids;
+        if (query == null || query.isBlank()) {
+            ids = current.byName.values();
+        } else {
+            String prefix = query.trim().toLowerCase(Locale.ROOT);
+            Set<Long> matched = new LinkedHashSet<>(
+                    current.byToken.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+            ids = matched;
+        }
+
+        List<UserSummary> content = new ArrayList<>(Math.min(size, 256));
+        long skip = (long) page * size;
+        int total = 0;
+        for (Long id : ids) {
+            UserSummary user = current.byId.get(id);
+            if (user == null || !filter.test(user)) {
+                continue;
+            }
+            if (total >= skip && content.size() < size) {
+                content.add(user);
+            }
+            total++;
+        }
+        return new Page(content, page, size, total);
+    }
+
+    private static void add(Index index, UserSummary user) {
+        index.byId.put(user.id(), user);
+        index.byName.put(nameKey(user), user.id());
+        for (String token : tokens(user)) {
+            index.byToken.put(token + SEP + user.id(), user.id());
+        }
+    }
+
+    private static void drop(Index index, UserSummary user) {
+        index.byName.remove(nameKey(user));
+        for (String token : tokens(user)) {
+            index.byToken.remove(token + SEP + user.id());
+        }
+        index.byId.remove(user.id());
+    }
+
+    private static String nameKey(UserSummary user) {
+        return (user.name() != null ? user.name().toLowerCase(Locale.ROOT) : "") + SEP + user.id();
+    }
+
+    private static Set<String> tokens(UserSummary user) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (user.name() != null) {
+            String name = user.name().trim().toLowerCase(Locale.ROOT);
+            // The full name too, so "jane do" narrows to Jane Doe
+            tokens.add(name);
+            for (String word : name.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    tokens.add(word);
+                }
+            }
+        }
+        if (user.email() != null) {
+            tokens.add(user.email().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+}
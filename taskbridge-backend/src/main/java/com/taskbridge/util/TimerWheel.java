@@ -0,0 +1,146 @@
+package com.taskbridge.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timer wheel keyed by K. Four levels of 64 slots cover 64^4 ticks;
+ * anything further out waits in an overflow list that is re-placed once per full
+ * rotation. schedule and cancel are O(1); advance costs O(1) per elapsed tick plus
+ * the entries that cascade or expire. A key has at most one pending deadline.
+ */
+public class TimerWheel<K> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Node<K>[][] wheels;
+    private final Node<K> overflow = Node.sentinel();
+    private final Map<K, Node<K>> index = new HashMap<>();
+    private final List<K> due = new ArrayList<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        this.wheels = new Node[LEVELS][SLOTS];
+        for (int l = 0; l < LEVELS; l++) {
+            for (int s = 0; s < SLOTS; s++) {
+                wheels[l][s] = Node.sentinel();
+            }
+        }
+    }
+
+    /** Schedules (or reschedules) key to fire at deadlineMillis. */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        Node<K> node = new Node<>(key, Math.max(deadlineMillis / tickMillis, 0));
+        index.put(key, node);
+        place(node);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Node<K> node = index.remove(key);
+        if (node == null) {
+            return due.remove(key);
+        }
+        node.unlink();
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return index.containsKey(key) || due.contains(key);
+    }
+
+    public synchronized int size() {
+        return index.size() + due.size();
+    }
+
+    /** Moves time forward and returns every key whose deadline is at or before nowMillis. */
+    public synchronized List<K> advance(long nowMillis) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            for (int l = LEVELS - 1; l >= 1; l--) {
+                if ((currentTick & ((1L << (BITS * l)) - 1)) == 0) {
+                    if (l == LEVELS - 1) {
+                        cascade(overflow);
+                    }
+                    cascade(wheels[l][(int) ((currentTick >>> (BITS * l)) & MASK)]);
+                }
+            }
+            Node<K> head = wheels[0][(int) (currentTick & MASK)];
+            for (Node<K> n = head.next; n != head; n = head.next) {
+                n.unlink();
+                index.remove(n.key);
+                due.add(n.key);
+            }
+        }
+        List<K> expired = new ArrayList<>(due);
+        due.clear();
+        return expired;
+    }
+
+    // Detach first: overflow entries that are still out of range go straight back onto the same list
+    private void cascade(Node<K> head) {
+        List<Node<K>> pending = new ArrayList<>();
+        for (Node<K> n = head.next; n != head; n = head.next) {
+            n.unlink();
+            pending.add(n);
+        }
+        pending.forEach(this::place);
+    }
+
+    // The level is picked from the highest bit where the expiry differs from the current tick, so the
+    // target slot is always ahead of the wheel's position at that level.
+    private void place(Node<K> node) {
+        if (node.expiryTick <= currentTick) {
+            index.remove(node.key);
+            due.add(node.key);
+            return;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(node.expiryTick ^ currentTick);
+        int level = highestBit / BITS;
+        if (level >= LEVELS) {
+            overflow.append(node);
+            return;
+        }
+        wheels[level][(int) ((node.expiryTick >>> (BITS * level)) & MASK)].append(node);
+    }
+
+    private static final class Node<K> {
+        final K key;
+        final long expiryTick;
+        Node<K> prev = this;
+        Node<K> next = this;
+
+        Node(K key, long expiryTick) {
+            this.key = key;
+            this.expiryTick = expiryTick;
+        }
+
+        static <K> Node<K> sentinel() {
+            return new Node<>(null, -1);
+        }
+
+        void append(Node<K> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+}
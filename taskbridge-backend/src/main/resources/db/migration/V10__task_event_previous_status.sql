@@ -0,0 +1,2 @@
+-- Status before the transition, so projections can tell a transition from a repeat
+alter table task_event add column previous_status varchar(255);
@@ -0,0 +1,14 @@
+-- Rotating refresh tokens: one row per login, advanced on every refresh
+create table refresh_session (
+    id varchar(255) not null,
+    counter bigint not null,
+    expires_at datetime(6),
+    rotated_at datetime(6),
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_refresh_session_expires on refresh_session (expires_at);
+
+-- Bumped on password reset; refresh tokens issued at an older version are refused
+alter table users add column token_version integer not null default 0;
@@ -0,0 +1,23 @@
+-- One row per bucket. Compaction used to run on every node and could write a daily bucket twice, so
+-- duplicates are summed into the oldest row before the key goes on; it replaces idx_task_rollup_bucket.
+create table task_rollup_merged as
+select min(id) as id, granularity, bucket_start, category, priority,
+    sum(created) as created, sum(assigned) as assigned, sum(completed) as completed, sum(rejected) as rejected,
+    sum(assign_seconds) as assign_seconds, sum(complete_seconds) as complete_seconds,
+    sum(complete_samples) as complete_samples
+from task_rollup
+group by granularity, bucket_start, category, priority;
+
+delete from task_rollup;
+
+insert into task_rollup (id, granularity, bucket_start, category, priority, created, assigned, completed, rejected,
+    assign_seconds, complete_seconds, complete_samples)
+select id, granularity, bucket_start, category, priority, created, assigned, completed, rejected,
+    assign_seconds, complete_seconds, complete_samples
+from task_rollup_merged;
+
+drop table task_rollup_merged;
+
+alter table task_rollup add constraint uk_task_rollup_bucket unique (granularity, bucket_start, category, priority);
+
+drop index idx_task_rollup_bucket on task_rollup;
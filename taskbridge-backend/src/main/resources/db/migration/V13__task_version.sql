@@ -0,0 +1,2 @@
+-- Optimistic lock for task transitions
+alter table task add column version bigint not null default 0;
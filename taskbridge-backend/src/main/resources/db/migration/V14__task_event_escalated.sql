@@ -0,0 +1,2 @@
+-- SLA escalations are recorded in the task event stream
+alter table task_event modify type enum ('ASSIGNED','BACKUP_ASSIGNED','COMPLETED','CREATED','ESCALATED','PROOF_ATTACHED','REASSIGNED','REJECTED','REREQUESTED','RESOLVED','SCORED','STARTED');
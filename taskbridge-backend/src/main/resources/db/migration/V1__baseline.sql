@@ -0,0 +1,95 @@
+-- Schema as Hibernate created it before migrations were introduced. Databases that already have it are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only run what follows.
+
+create table users (
+    id bigint not null auto_increment,
+    availability_status varchar(255),
+    available bit not null,
+    email varchar(255),
+    name varchar(255),
+    otp varchar(255),
+    otp_expiry datetime(6),
+    password varchar(255),
+    role enum ('ADMIN','MANAGER','USER'),
+    suspended bit not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table audit_log (
+    id bigint not null auto_increment,
+    action varchar(255),
+    details varchar(255),
+    performed_by varchar(255),
+    timestamp datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table chat_message (
+    id bigint not null auto_increment,
+    content TEXT,
+    timestamp datetime(6),
+    type varchar(255),
+    receiver_id bigint,
+    sender_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table notification (
+    id bigint not null auto_increment,
+    is_read bit,
+    message varchar(255),
+    timestamp datetime(6),
+    title varchar(255),
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table system_setting (
+    setting_key varchar(255) not null,
+    setting_value varchar(255),
+    primary key (setting_key)
+) engine=InnoDB;
+
+create table task (
+    id bigint not null auto_increment,
+    assigned_at datetime(6),
+    category enum ('APPROVAL_REQUEST','DOCUMENTATION','HR_REQUEST','IT_SUPPORT','MAINTENANCE','OTHER'),
+    completed_at datetime(6),
+    completion_proof varchar(255),
+    created_at datetime(6),
+    deadline varchar(255),
+    description varchar(255),
+    feedback varchar(255),
+    priority enum ('HIGH','LOW','MEDIUM','URGENT'),
+    quality_score integer,
+    rejection_reason varchar(255),
+    started_at datetime(6),
+    status varchar(255),
+    title varchar(255),
+    to_do_plan varchar(255),
+    assigned_by_id bigint,
+    assigned_to_id bigint,
+    backup_assignee_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users
+    add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table chat_message
+    add constraint FK46s59psfyf53qh0ayebjnn6tu foreign key (receiver_id) references users (id);
+
+alter table chat_message
+    add constraint FK5f82aoyy0jiwpj08qapfrxbh6 foreign key (sender_id) references users (id);
+
+alter table notification
+    add constraint FKnk4ftb5am9ubmkv1661h15ds9 foreign key (user_id) references users (id);
+
+alter table task
+    add constraint FKtfu96qc0g95khlff2deht5h33 foreign key (assigned_by_id) references users (id);
+
+alter table task
+    add constraint FK3cjmgekj641ph0muq32huj8ux foreign key (assigned_to_id) references users (id);
+
+alter table task
+    add constraint FKrbrvpnt4rjle4wmjtaw9r0k1i foreign key (backup_assignee_id) references users (id);
@@ -0,0 +1,33 @@
+-- Finished tasks move here after tasks.archive.after-days; ids are copied from task
+create table archived_task (
+    id bigint not null,
+    archived_at datetime(6),
+    assigned_at datetime(6),
+    category enum ('APPROVAL_REQUEST','DOCUMENTATION','HR_REQUEST','IT_SUPPORT','MAINTENANCE','OTHER'),
+    completed_at datetime(6),
+    completion_proof varchar(255),
+    created_at datetime(6),
+    deadline varchar(255),
+    description varchar(255),
+    feedback varchar(255),
+    priority enum ('HIGH','LOW','MEDIUM','URGENT'),
+    quality_score integer,
+    rejection_reason varchar(255),
+    started_at datetime(6),
+    status varchar(255),
+    title varchar(255),
+    to_do_plan varchar(255),
+    assigned_by_id bigint,
+    assigned_to_id bigint,
+    backup_assignee_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+alter table archived_task
+    add constraint FKqqig5lq0cbhx91yc1tpx04iut foreign key (assigned_by_id) references users (id);
+
+alter table archived_task
+    add constraint FKobmqeeyfqpq38yn4gaejf9n9j foreign key (assigned_to_id) references users (id);
+
+alter table archived_task
+    add constraint FKsatyav8swiuyrbatih2mefyuq foreign key (backup_assignee_id) references users (id);
@@ -0,0 +1,33 @@
+-- Notification, AuditLog, ChatMessage and Task take pooled ids (allocationSize 50) from table-emulated
+-- sequences instead of AUTO_INCREMENT. Each sequence starts past the highest id already in use, with room
+-- for one allocation block; task ids also cover archived_task, which keeps the original ids.
+
+alter table notification modify id bigint not null;
+alter table audit_log modify id bigint not null;
+alter table chat_message modify id bigint not null;
+alter table task modify id bigint not null;
+
+create table notification_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into notification_seq select coalesce(max(id), 0) + 51 from notification;
+
+create table audit_log_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into audit_log_seq select coalesce(max(id), 0) + 51 from audit_log;
+
+create table chat_message_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into chat_message_seq select coalesce(max(id), 0) + 51 from chat_message;
+
+create table task_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into task_seq
+    select coalesce(max(id), 0) + 51 from (select id from task union all select id from archived_task) ids;
@@ -0,0 +1,3 @@
+-- Set when the SLA engine hands an overdue task to its backup assignee
+alter table task add column escalated_at datetime(6);
+alter table archived_task add column escalated_at datetime(6);
@@ -0,0 +1,18 @@
+-- Hourly and daily task activity counters behind /admin/analytics
+create table task_rollup (
+    id bigint not null auto_increment,
+    assign_seconds bigint not null,
+    assigned bigint not null,
+    bucket_start datetime(6),
+    category enum ('APPROVAL_REQUEST','DOCUMENTATION','HR_REQUEST','IT_SUPPORT','MAINTENANCE','OTHER'),
+    complete_samples bigint not null,
+    complete_seconds bigint not null,
+    completed bigint not null,
+    created bigint not null,
+    granularity varchar(255),
+    priority enum ('HIGH','LOW','MEDIUM','URGENT'),
+    rejected bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_task_rollup_bucket on task_rollup (granularity, bucket_start);
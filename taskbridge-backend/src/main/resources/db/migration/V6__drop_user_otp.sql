@@ -0,0 +1,3 @@
+-- Password-reset OTPs live in an expiring in-memory store now
+alter table users drop column otp;
+alter table users drop column otp_expiry;
@@ -0,0 +1,24 @@
+-- Append-only log of task transitions and the positions the projections have applied up to
+create table task_event (
+    id bigint not null auto_increment,
+    actor_id bigint,
+    assignee_id bigint,
+    category enum ('APPROVAL_REQUEST','DOCUMENTATION','HR_REQUEST','IT_SUPPORT','MAINTENANCE','OTHER'),
+    detail varchar(1000),
+    occurred_at datetime(6),
+    priority enum ('HIGH','LOW','MEDIUM','URGENT'),
+    status varchar(255),
+    task_age_seconds bigint,
+    task_id bigint,
+    type enum ('ASSIGNED','BACKUP_ASSIGNED','COMPLETED','CREATED','REASSIGNED','REJECTED','REREQUESTED','RESOLVED','SCORED','STARTED'),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_task_event_task on task_event (task_id);
+
+create table projection_checkpoint (
+    name varchar(255) not null,
+    position bigint not null,
+    updated_at datetime(6),
+    primary key (name)
+) engine=InnoDB;
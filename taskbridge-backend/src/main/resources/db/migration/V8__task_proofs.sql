@@ -0,0 +1,12 @@
+-- Reference to the uploaded proof file in the content-addressed ProofStore
+alter table task add column proof_hash varchar(64);
+alter table task add column proof_size bigint;
+alter table task add column proof_name varchar(255);
+alter table task add column proof_content_type varchar(255);
+
+alter table archived_task add column proof_hash varchar(64);
+alter table archived_task add column proof_size bigint;
+alter table archived_task add column proof_name varchar(255);
+alter table archived_task add column proof_content_type varchar(255);
+
+alter table task_event modify type enum ('ASSIGNED','BACKUP_ASSIGNED','COMPLETED','CREATED','PROOF_ATTACHED','REASSIGNED','REJECTED','REREQUESTED','RESOLVED','SCORED','STARTED');
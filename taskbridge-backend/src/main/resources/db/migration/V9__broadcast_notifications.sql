@@ -0,0 +1,25 @@
+-- One row per broadcast plus a deflated bitmap of the user ids that have read it
+create table broadcast_notification (
+    id bigint not null,
+    audience enum ('ADMIN','MANAGER','USER'),
+    message varchar(255),
+    timestamp datetime(6),
+    title varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_broadcast_timestamp on broadcast_notification (timestamp);
+
+create table broadcast_notification_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into broadcast_notification_seq values ( 1 );
+
+create table broadcast_read_state (
+    broadcast_id bigint not null,
+    bitmap mediumblob not null,
+    readers integer not null,
+    version bigint,
+    primary key (broadcast_id)
+) engine=InnoDB;
@@ -0,0 +1,32 @@
+package com.taskbridge.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+// Builds the schema from db/migration alone and lets Hibernate validate the entities against it with the
+// MySQL dialect prod uses, so an entity change without a matching migration fails here.
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:taskbridge_migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MigrationConfig.class)
+class MigrationsTest {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Test
+	void migrationsBuildTheSchemaTheEntitiesExpect() {
+		assertEquals(0, flyway.info().pending().length);
+		assertNull(flyway.validateWithResult().errorDetails);
+	}
+}
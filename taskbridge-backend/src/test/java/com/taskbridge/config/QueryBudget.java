@@ -0,0 +1,49 @@
+package com.taskbridge.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Test helper: runs a block inside a SqlStatementCounter scope and fails when it
+ * issues more statements than the declared budget. For MockMvc tests, the same
+ * number is available in the X-SQL-Statements response header.
+ */
+public final class QueryBudget {
+
+	private QueryBudget() {
+	}
+
+	public static <T> T assertMaxStatements(int budget, Supplier<T> work) {
+		SqlStatementCounter.Scope outer = SqlStatementCounter.current();
+		SqlStatementCounter.Scope scope = SqlStatementCounter.begin();
+		try {
+			T result = work.get();
+			check(budget, scope);
+			return result;
+		} finally {
+			SqlStatementCounter.attach(outer);
+		}
+	}
+
+	public static void assertMaxStatements(int budget, Runnable work) {
+		assertMaxStatements(budget, () -> {
+			work.run();
+			return null;
+		});
+	}
+
+	public static void assertHeaderWithinBudget(int budget, String headerValue) {
+		int count = Integer.parseInt(headerValue);
+		if (count > budget) {
+			throw new AssertionError("Expected at most " + budget + " SQL statements but the request issued " + count);
+		}
+	}
+
+	private static void check(int budget, SqlStatementCounter.Scope scope) {
+		if (scope.getCount() > budget) {
+			StringBuilder msg = new StringBuilder("Expected at most " + budget + " SQL statements but got "
+					+ scope.getCount() + ":");
+			scope.getStatements().forEach((sql, n) -> msg.append("\n  ").append(n).append("x ").append(sql));
+			throw new AssertionError(msg.toString());
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.taskbridge.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000);
+	private volatile boolean replicaBroken;
+	private DataSource primary;
+	private DataSource replica;
+	private ReplicaRoutingDataSource routing;
+
+	@BeforeEach
+	void setUp() {
+		String suffix = Long.toString(System.nanoTime());
+		primary = new DriverManagerDataSource("jdbc:h2:mem:primary" + suffix + ";DB_CLOSE_DELAY=-1", "sa", "");
+		DataSource real = new DriverManagerDataSource("jdbc:h2:mem:replica" + suffix + ";DB_CLOSE_DELAY=-1", "sa", "");
+		replica = new DelegatingDataSource(real) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				if (replicaBroken) {
+					throw new SQLException("replica down");
+				}
+				return super.getConnection();
+			}
+		};
+		routing = new ReplicaRoutingDataSource(primary, List.of(replica), 1000, 5000);
+		routing.setClock(now::get);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReplicaRoutingDataSource.primaryOnly(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void replicaIsUnusedUntilItsHeartbeatIsSeen() throws SQLException {
+		assertEquals("primary", target(true));
+		routing.checkReplicas();
+		assertEquals("primary", target(true));
+	}
+
+	@Test
+	void readOnlyGoesToReplicaWithinLagAndWritesToPrimary() throws SQLException {
+		replicateHeartbeat(now.get());
+		routing.checkReplicas();
+		assertEquals("replica", target(true));
+		assertEquals("primary", target(false));
+	}
+
+	@Test
+	void laggingReplicaIsSkipped() throws SQLException {
+		replicateHeartbeat(now.get() - 5000);
+		routing.checkReplicas();
+		assertEquals("primary", target(true));
+	}
+
+	@Test
+	void recentWriterReadsFromPrimary() throws SQLException {
+		replicateHeartbeat(now.get());
+		routing.checkReplicas();
+		routing.recordWrite("a@test");
+		assertTrue(routing.isSticky("a@test"));
+		ReplicaRoutingDataSource.primaryOnly(true);
+		assertEquals("primary", target(true));
+
+		now.addAndGet(5000);
+		assertFalse(routing.isSticky("a@test"));
+	}
+
+	@Test
+	void failedReplicaFallsBackToPrimaryAndLeavesRotation() throws SQLException {
+		replicateHeartbeat(now.get());
+		routing.checkReplicas();
+		replicaBroken = true;
+		assertEquals("primary", target(true));
+		replicaBroken = false;
+		assertEquals("primary", target(true));
+
+		routing.checkReplicas();
+		assertEquals("replica", target(true));
+	}
+
+	private void replicateHeartbeat(long beat) throws SQLException {
+		try (Connection c = replica.getConnection(); Statement st = c.createStatement()) {
+			st.execute("create table replica_heartbeat (id int primary key, beat bigint not null)");
+			st.execute("insert into replica_heartbeat (id, beat) values (1, " + beat + ")");
+		}
+	}
+
+	private String target(boolean readOnly) throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+		try (Connection c = routing.getConnection()) {
+			return c.getMetaData().getURL().contains(":replica") ? "replica" : "primary";
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.taskbridge.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SqlStatementCounterTest {
+
+	private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+	@Test
+	void countsOnlyInsideScopeAndFlagsRepeats() {
+		inspector.inspect("select 1");
+		SqlStatementCounter.Scope scope = SqlStatementCounter.begin();
+		try {
+			inspector.inspect("select * from users where id=?");
+			inspector.inspect("select * from users where id=?");
+			inspector.inspect("select * from users where id=?");
+			inspector.inspect("select * from task");
+		} finally {
+			SqlStatementCounter.end();
+		}
+		inspector.inspect("select 2");
+
+		assertEquals(4, scope.getCount());
+		assertEquals(1, scope.getRepeated(3).size());
+		assertTrue(scope.getRepeated(3).containsKey("select * from users where id=?"));
+	}
+
+	@Test
+	void budgetAssertionFailsWhenExceeded() {
+		QueryBudget.assertMaxStatements(2, () -> inspector.inspect("select 1"));
+		AssertionError error = assertThrows(AssertionError.class,
+				() -> QueryBudget.assertMaxStatements(1, () -> {
+					inspector.inspect("select 1");
+					inspector.inspect("select 1");
+				}));
+		assertTrue(error.getMessage().contains("2x select 1"));
+	}
+}
@@ -0,0 +1,63 @@
+package com.taskbridge.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.UserRepository;
+import com.taskbridge.service.BroadcastService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationControllerTest {
+
+	@Mock
+	private NotificationRepository notificationRepo;
+	@Mock
+	private UserRepository userRepo;
+	@Mock
+	private BroadcastService broadcastService;
+
+	@InjectMocks
+	private NotificationController controller;
+
+	private final Principal principal = () -> "alice@test";
+	private User alice;
+
+	@BeforeEach
+	void setUp() {
+		alice = new User();
+		alice.setId(1L);
+		alice.setRole(Role.USER);
+		when(userRepo.findByEmail("alice@test")).thenReturn(Optional.of(alice));
+	}
+
+	@Test
+	void markAsReadAnswers404WhenNothingWasUpdated() {
+		when(notificationRepo.markRead(5L, alice)).thenReturn(1);
+		when(notificationRepo.markRead(6L, alice)).thenReturn(0);
+
+		assertEquals(200, controller.markAsRead(5L, principal).getStatusCode().value());
+		assertEquals(404, controller.markAsRead(6L, principal).getStatusCode().value());
+	}
+
+	@Test
+	void markAsReadAnswers404ForABroadcastNotAddressedToTheCaller() {
+		when(broadcastService.markRead(3L, alice)).thenReturn(true);
+		when(broadcastService.markRead(4L, alice)).thenReturn(false);
+
+		assertEquals(200, controller.markAsRead(-3L, principal).getStatusCode().value());
+		assertEquals(404, controller.markAsRead(-4L, principal).getStatusCode().value());
+	}
+}
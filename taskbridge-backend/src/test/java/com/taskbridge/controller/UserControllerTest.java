@@ -0,0 +1,54 @@
+package com.taskbridge.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.SparseFieldsetQuery;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+	@Mock
+	private SparseFieldsetQuery fieldsetQuery;
+
+	@InjectMocks
+	private UserController controller;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "password", "tokenVersion", "id,name,password", "email,tokenVersion", "role.name" })
+	void restrictedOrUnknownFieldsAnswer400WithoutQuerying(String fields) {
+		ResponseEntity<?> response = controller.getAllUsers(fields);
+
+		assertEquals(400, response.getStatusCode().value());
+		verify(fieldsetQuery, never()).select(any(), any(), any());
+	}
+
+	@Test
+	void whitelistedFieldsAreSelected() {
+		when(fieldsetQuery.select(eq(User.class), eq(Set.of("id", "name")), any()))
+				.thenReturn(List.of(Map.of("id", 1L, "name", "Ada")));
+
+		ResponseEntity<?> response = controller.getAllUsers("id,name");
+
+		assertEquals(200, response.getStatusCode().value());
+		assertEquals(List.of(Map.of("id", 1L, "name", "Ada")), response.getBody());
+	}
+}
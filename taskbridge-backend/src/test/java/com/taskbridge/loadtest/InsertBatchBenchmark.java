@@ -0,0 +1,92 @@
+package com.taskbridge.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.TaskbridgeBackendApplication;
+import com.taskbridge.entity.AuditLog;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.UserRepository;
+
+/**
+ * Insert throughput with JDBC batching off (batch_size=1, one round trip per row,
+ * as with the old IDENTITY ids) and on (batch_size=50 with pooled ids). Runs on
+ * the embedded perf profile unless datasource arguments are passed:
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskbridge.loadtest.InsertBatchBenchmark -Dexec.args="20000"
+ * </pre>
+ */
+public class InsertBatchBenchmark {
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		List<String> extra = args.length > 1 ? List.of(args).subList(1, args.length) : List.of();
+		for (int batchSize : new int[] { 1, 50 }) {
+			run(rows, batchSize, extra);
+		}
+	}
+
+	static void run(int rows, int batchSize, List<String> extra) {
+		List<String> appArgs = new ArrayList<>(List.of("--spring.profiles.active=perf", "--server.port=0",
+				"--perf.seed.users=0", "--perf.seed.managers=0", "--perf.seed.tasks=0", "--perf.seed.messages=0",
+				"--perf.seed.notifications=0", "--app.seed.enabled=false",
+				"--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize));
+		appArgs.addAll(extra);
+		try (ConfigurableApplicationContext ctx = SpringApplication.run(TaskbridgeBackendApplication.class,
+				appArgs.toArray(String[]::new))) {
+			UserRepository userRepo = ctx.getBean(UserRepository.class);
+			NotificationRepository notificationRepo = ctx.getBean(NotificationRepository.class);
+			AuditLogRepository auditRepo = ctx.getBean(AuditLogRepository.class);
+			TransactionTemplate tx = ctx.getBean(TransactionTemplate.class);
+
+			User user = new User();
+			user.setName("Bench");
+			user.setEmail("bench-" + System.nanoTime() + "@load.test");
+			userRepo.save(user);
+
+			// Warm up JIT and the id pool
+			insert(tx, notificationRepo, auditRepo, user, 2000);
+
+			long start = System.nanoTime();
+			insert(tx, notificationRepo, auditRepo, user, rows);
+			double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%nbatch_size=%-3d %d notifications + %d audit rows in %.2fs -> %.0f rows/s%n%n",
+					batchSize, rows, rows, seconds, rows * 2 / seconds);
+		}
+	}
+
+	static void insert(TransactionTemplate tx, NotificationRepository notificationRepo, AuditLogRepository auditRepo,
+			User user, int rows) {
+		int chunk = 1000;
+		for (int done = 0; done < rows; done += chunk) {
+			int n = Math.min(chunk, rows - done);
+			tx.executeWithoutResult(status -> {
+				List<Notification> notifications = new ArrayList<>(n);
+				List<AuditLog> logs = new ArrayList<>(n);
+				for (int i = 0; i < n; i++) {
+					Notification notification = new Notification();
+					notification.setUser(user);
+					notification.setTitle("Bench");
+					notification.setMessage("Insert benchmark row");
+					notifications.add(notification);
+					AuditLog log = new AuditLog();
+					log.setAction("BENCH");
+					log.setPerformedBy("bench");
+					log.setDetails("Insert benchmark row");
+					logs.add(log);
+				}
+				notificationRepo.saveAll(notifications);
+				auditRepo.saveAll(logs);
+			});
+		}
+	}
+}
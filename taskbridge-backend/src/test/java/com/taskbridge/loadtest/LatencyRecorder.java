@@ -0,0 +1,85 @@
+package com.taskbridge.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects per-endpoint latencies in microseconds and prints throughput and
+ * percentiles. Shared by the benchmarks and the load generator.
+ */
+public class LatencyRecorder {
+
+	private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+	public void record(String endpoint, long micros, boolean ok) {
+		series.computeIfAbsent(endpoint, k -> new Series()).add(micros, ok);
+	}
+
+	public Map<String, Stats> snapshot(double seconds) {
+		Map<String, Stats> out = new TreeMap<>();
+		series.forEach((k, v) -> out.put(k, v.stats(seconds)));
+		return out;
+	}
+
+	public Stats total(double seconds) {
+		Series all = new Series();
+		series.values().forEach(s -> s.copyInto(all));
+		return all.stats(seconds);
+	}
+
+	public void print(String label, double seconds) {
+		System.out.println("== " + label + " (" + String.format("%.1f", seconds) + "s)");
+		System.out.printf("%-36s %8s %8s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50 ms",
+				"p99 ms", "max ms");
+		snapshot(seconds).forEach((k, s) -> System.out.println(s.format(k)));
+		System.out.println(total(seconds).format("TOTAL"));
+	}
+
+	public record Stats(int count, int errors, double throughput, double p50, double p99, double max) {
+		String format(String name) {
+			return String.format("%-36s %8d %8d %9.1f %9.2f %9.2f %9.2f", name, count, errors, throughput, p50, p99,
+					max);
+		}
+	}
+
+	private static class Series {
+		private long[] values = new long[1024];
+		private int size;
+		private final AtomicInteger errors = new AtomicInteger();
+
+		synchronized void add(long micros, boolean ok) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = micros;
+			if (!ok) {
+				errors.incrementAndGet();
+			}
+		}
+
+		synchronized void copyInto(Series target) {
+			for (int i = 0; i < size; i++) {
+				target.add(values[i], true);
+			}
+			target.errors.addAndGet(errors.get());
+		}
+
+		synchronized Stats stats(double seconds) {
+			long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			return new Stats(size, errors.get(), size / seconds, percentile(sorted, 0.50), percentile(sorted, 0.99),
+					size == 0 ? 0 : sorted[size - 1] / 1000.0);
+		}
+
+		private static double percentile(long[] sorted, double p) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int idx = (int) Math.ceil(p * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1000.0;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.taskbridge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Minimal HTTP helpers for the load tools; no JSON library so the tools run from
+ * the plain test classpath.
+ */
+public final class LoadClient {
+
+	private LoadClient() {
+	}
+
+	public static String login(HttpClient client, String baseUrl, String email, String password) throws Exception {
+		String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body)).build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode());
+		}
+		return jsonField(response.body(), "token");
+	}
+
+	public static HttpResponse<String> timed(HttpClient client, HttpRequest request, String endpoint,
+			LatencyRecorder recorder) {
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			recorder.record(endpoint, (System.nanoTime() - start) / 1000, response.statusCode() < 400);
+			return response;
+		} catch (Exception e) {
+			recorder.record(endpoint, (System.nanoTime() - start) / 1000, false);
+			return null;
+		}
+	}
+
+	static String jsonField(String json, String field) {
+		String key = "\"" + field + "\":\"";
+		int start = json.indexOf(key);
+		if (start < 0) {
+			return null;
+		}
+		start += key.length();
+		return json.substring(start, json.indexOf('"', start));
+	}
+}
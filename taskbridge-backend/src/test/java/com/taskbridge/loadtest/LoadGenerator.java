@@ -0,0 +1,182 @@
+package com.taskbridge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Replays the production traffic mix against a running instance (normally the
+ * "perf" profile, which seeds user&lt;N&gt;@load.test and manager&lt;N&gt;@load.test):
+ *
+ * <ul>
+ * <li>employees poll /tasks every 15s, /notifications every 30s and
+ * /notifications/unread-count every 10s</li>
+ * <li>managers poll /tasks every 15s and run claim, start, complete flows</li>
+ * <li>everyone logs in on start and again every few minutes</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskbridge.loadtest.LoadGenerator \
+ *     -Dexec.args="url=http://localhost:8081 users=1000 managers=50 seconds=300"
+ * </pre>
+ */
+public class LoadGenerator {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> opts = new HashMap<>();
+		for (String arg : args) {
+			String[] kv = arg.split("=", 2);
+			opts.put(kv[0], kv.length > 1 ? kv[1] : "");
+		}
+		String url = opts.getOrDefault("url", "http://localhost:8081");
+		int users = Integer.parseInt(opts.getOrDefault("users", "500"));
+		int managers = Integer.parseInt(opts.getOrDefault("managers", "25"));
+		int seconds = Integer.parseInt(opts.getOrDefault("seconds", "120"));
+		int flowSeconds = Integer.parseInt(opts.getOrDefault("flowEvery", "20"));
+		int reloginSeconds = Integer.parseInt(opts.getOrDefault("reloginEvery", "300"));
+
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+		LatencyRecorder recorder = new LatencyRecorder();
+		long startNanos = System.nanoTime();
+		long deadline = startNanos + TimeUnit.SECONDS.toNanos(seconds);
+
+		try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> running = new ArrayList<>();
+			for (int i = 0; i < users; i++) {
+				String email = "user" + i + "@load.test";
+				running.add(pool.submit(() -> employee(client, url, email, deadline, reloginSeconds, recorder)));
+			}
+			for (int i = 0; i < managers; i++) {
+				String email = "manager" + i + "@load.test";
+				running.add(pool.submit(
+						() -> manager(client, url, email, deadline, flowSeconds, reloginSeconds, recorder)));
+			}
+			for (Future<?> f : running) {
+				f.get();
+			}
+		}
+		recorder.print("traffic mix @ " + url + " (" + users + " users, " + managers + " managers)",
+				(System.nanoTime() - startNanos) / 1e9);
+	}
+
+	private static Void employee(HttpClient client, String url, String email, long deadline, int reloginSeconds,
+			LatencyRecorder recorder) throws InterruptedException {
+		// Stagger start so polls do not arrive in lockstep
+		Thread.sleep(ThreadLocalRandom.current().nextLong(15000));
+		String token = login(client, url, email, recorder);
+		long nextTasks = 0, nextNotifications = 0, nextCount = 0;
+		long nextLogin = System.nanoTime() + TimeUnit.SECONDS.toNanos(reloginSeconds);
+		while (System.nanoTime() < deadline && token != null) {
+			long now = System.nanoTime();
+			if (now >= nextLogin) {
+				token = login(client, url, email, recorder);
+				nextLogin = now + TimeUnit.SECONDS.toNanos(reloginSeconds);
+			}
+			if (now >= nextTasks) {
+				get(client, url, "/tasks", token, recorder);
+				nextTasks = now + TimeUnit.SECONDS.toNanos(15);
+			}
+			if (now >= nextNotifications) {
+				get(client, url, "/notifications", token, recorder);
+				nextNotifications = now + TimeUnit.SECONDS.toNanos(30);
+			}
+			if (now >= nextCount) {
+				get(client, url, "/notifications/unread-count", token, recorder);
+				nextCount = now + TimeUnit.SECONDS.toNanos(10);
+			}
+			Thread.sleep(500);
+		}
+		return null;
+	}
+
+	private static Void manager(HttpClient client, String url, String email, long deadline, int flowSeconds,
+			int reloginSeconds, LatencyRecorder recorder) throws Exception {
+		Thread.sleep(ThreadLocalRandom.current().nextLong(15000));
+		String token = login(client, url, email, recorder);
+		long nextTasks = 0;
+		long nextFlow = System.nanoTime() + TimeUnit.SECONDS.toNanos(flowSeconds);
+		long nextLogin = System.nanoTime() + TimeUnit.SECONDS.toNanos(reloginSeconds);
+		JsonNode lastTasks = null;
+		while (System.nanoTime() < deadline && token != null) {
+			long now = System.nanoTime();
+			if (now >= nextLogin) {
+				token = login(client, url, email, recorder);
+				nextLogin = now + TimeUnit.SECONDS.toNanos(reloginSeconds);
+			}
+			if (now >= nextTasks) {
+				HttpResponse<String> res = get(client, url, "/tasks", token, recorder);
+				if (res != null && res.statusCode() == 200) {
+					lastTasks = MAPPER.readTree(res.body());
+				}
+				nextTasks = now + TimeUnit.SECONDS.toNanos(15);
+			}
+			if (now >= nextFlow && lastTasks != null) {
+				Long taskId = pickUnassigned(lastTasks);
+				if (taskId != null) {
+					put(client, url, "/tasks/" + taskId + "/claim", "{\"toDoPlan\":\"load test\"}", token,
+							"/tasks/{id}/claim", recorder);
+					put(client, url, "/tasks/" + taskId + "/start", "", token, "/tasks/{id}/start", recorder);
+					put(client, url, "/tasks/" + taskId + "/complete", "{\"feedback\":\"done\"}", token,
+							"/tasks/{id}/complete", recorder);
+				}
+				nextFlow = now + TimeUnit.SECONDS.toNanos(flowSeconds);
+			}
+			Thread.sleep(500);
+		}
+		return null;
+	}
+
+	private static Long pickUnassigned(JsonNode tasks) {
+		List<Long> candidates = new ArrayList<>();
+		for (JsonNode t : tasks) {
+			if ("PENDING".equals(t.path("status").asText()) && t.path("assignedTo").isNull()) {
+				candidates.add(t.path("id").asLong());
+			}
+		}
+		return candidates.isEmpty() ? null
+				: candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+	}
+
+	private static String login(HttpClient client, String url, String email, LatencyRecorder recorder) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url + "/auth/login"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(
+						"{\"email\":\"" + email + "\",\"password\":\"password\"}"))
+				.build();
+		HttpResponse<String> res = LoadClient.timed(client, request, "/auth/login", recorder);
+		return res != null && res.statusCode() == 200 ? LoadClient.jsonField(res.body(), "token") : null;
+	}
+
+	private static HttpResponse<String> get(HttpClient client, String url, String path, String token,
+			LatencyRecorder recorder) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url + path))
+				.header("Authorization", "Bearer " + token).GET().build();
+		return LoadClient.timed(client, request, path, recorder);
+	}
+
+	private static HttpResponse<String> put(HttpClient client, String url, String path, String body, String token,
+			String label, LatencyRecorder recorder) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url + path))
+				.header("Authorization", "Bearer " + token)
+				.header("Content-Type", "application/json")
+				.PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+		return LoadClient.timed(client, request, label, recorder);
+	}
+}
@@ -0,0 +1,115 @@
+package com.taskbridge.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskCategory;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+
+/**
+ * Bytes on the wire and serialization CPU for a task list in each response
+ * encoding (JSON with and without Blackbird, Smile, CBOR), raw and gzipped.
+ * The mappers are configured the way the application builds them.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.taskbridge.loadtest.SerializationBenchmark -Dexec.args="10000"
+ * </pre>
+ */
+public class SerializationBenchmark {
+
+	public static void main(String[] args) throws IOException {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		List<Task> tasks = tasks(count);
+
+		System.out.printf("%n%d tasks, %d timed rounds each%n", count, rounds);
+		System.out.printf("%-18s %12s %12s %14s%n", "format", "bytes", "gzip bytes", "cpu ms/list");
+		run("json", mapper(new JsonFactory(), false), tasks, rounds);
+		run("json+blackbird", mapper(new JsonFactory(), true), tasks, rounds);
+		run("smile+blackbird", mapper(new SmileFactory(), true), tasks, rounds);
+		run("cbor+blackbird", mapper(new CBORFactory(), true), tasks, rounds);
+	}
+
+	static ObjectMapper mapper(JsonFactory factory, boolean blackbird) {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().factory(factory)
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		if (blackbird) {
+			builder.modulesToInstall(new BlackbirdModule());
+		}
+		return builder.build();
+	}
+
+	static void run(String name, ObjectMapper mapper, List<Task> tasks, int rounds) throws IOException {
+		ObjectWriter writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Task.class));
+		byte[] body = writer.writeValueAsBytes(tasks);
+		// Warm up so the serializer cache and generated accessors are in place
+		for (int i = 0; i < rounds; i++) {
+			writer.writeValueAsBytes(tasks);
+		}
+
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		long cpuStart = threads.getCurrentThreadCpuTime();
+		for (int i = 0; i < rounds; i++) {
+			writer.writeValueAsBytes(tasks);
+		}
+		double cpuMs = (threads.getCurrentThreadCpuTime() - cpuStart) / 1e6 / rounds;
+
+		ByteArrayOutputStream gz = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(gz)) {
+			out.write(body);
+		}
+		System.out.printf("%-18s %12d %12d %14.2f%n", name, body.length, gz.size(), cpuMs);
+	}
+
+	static List<Task> tasks(int count) {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			User user = new User();
+			user.setId((long) i + 1);
+			user.setName("User " + i);
+			user.setEmail("user" + i + "@load.test");
+			user.setRole(i < 10 ? Role.MANAGER : Role.USER);
+			users.add(user);
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<Task> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Task task = new Task();
+			task.setId((long) i + 1);
+			task.setTitle("Load task " + i);
+			task.setDescription("Generated description for task " + i + " with enough text to look like a real request body.");
+			task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+			task.setCategory(TaskCategory.values()[i % TaskCategory.values().length]);
+			task.setDeadline(now.plusDays(i % 30).toString());
+			task.setStatus(i % 3 == 0 ? "COMPLETED" : "PENDING");
+			task.setCreatedAt(now.minusDays(i % 90));
+			task.setAssignedTo(users.get(i % 10));
+			task.setAssignedBy(users.get(10 + i % 40));
+			if (i % 3 == 0) {
+				task.setCompletedAt(now.minusDays(i % 60));
+				task.setCompletionProof("https://proof.example/" + i);
+			}
+			tasks.add(task);
+		}
+		return tasks;
+	}
+}
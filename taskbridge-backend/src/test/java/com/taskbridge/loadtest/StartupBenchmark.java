@@ -0,0 +1,82 @@
+package com.taskbridge.loadtest;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures time-to-first-request: from process launch until the server answers
+ * any HTTP request. Build with {@code mvn -Pfast-startup package} first, then:
+ *
+ * <pre>
+ * java -cp target/test-classes com.taskbridge.loadtest.StartupBenchmark [runs=5] [port=8090] [app args...]
+ * </pre>
+ *
+ * Compares the plain fat jar against the extracted jar with AOT, with CDS, and with both.
+ * Extra arguments are passed to the application (e.g. datasource settings).
+ */
+public class StartupBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+		int port = args.length > 1 ? Integer.parseInt(args[1]) : 8090;
+		List<String> appArgs = new ArrayList<>(args.length > 2 ? Arrays.asList(args).subList(2, args.length)
+				: List.of("--spring.profiles.active=prod"));
+		appArgs.add("--server.port=" + port);
+
+		String fatJar = "target/taskbridge-backend-0.0.1-SNAPSHOT.jar";
+		String extracted = "target/extracted/taskbridge-backend-0.0.1-SNAPSHOT.jar";
+		String jsa = "-XX:SharedArchiveFile=target/extracted/application.jsa";
+
+		measure("fat jar", runs, port, List.of("-jar", fatJar), appArgs);
+		measure("extracted", runs, port, List.of("-jar", extracted), appArgs);
+		measure("extracted + AOT", runs, port, List.of("-Dspring.aot.enabled=true", "-jar", extracted), appArgs);
+		measure("extracted + CDS", runs, port, List.of(jsa, "-jar", extracted), appArgs);
+		measure("extracted + AOT + CDS", runs, port,
+				List.of(jsa, "-Dspring.aot.enabled=true", "-jar", extracted), appArgs);
+	}
+
+	static void measure(String label, int runs, int port, List<String> jvmArgs, List<String> appArgs)
+			throws Exception {
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+		HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+				.timeout(Duration.ofSeconds(2)).GET().build();
+		long[] millis = new long[runs];
+		for (int i = 0; i < runs; i++) {
+			List<String> cmd = new ArrayList<>();
+			cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+			cmd.addAll(jvmArgs);
+			cmd.addAll(appArgs);
+			long start = System.nanoTime();
+			Process process = new ProcessBuilder(cmd).redirectErrorStream(true)
+					.redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+			try {
+				while (true) {
+					if (!process.isAlive()) {
+						throw new IllegalStateException(label + ": application exited with " + process.exitValue());
+					}
+					try {
+						// Any status counts: the server is accepting and dispatching requests
+						client.send(probe, HttpResponse.BodyHandlers.discarding());
+						break;
+					} catch (java.io.IOException e) {
+						Thread.sleep(20);
+					}
+				}
+				millis[i] = (System.nanoTime() - start) / 1_000_000;
+			} finally {
+				process.destroy();
+				process.waitFor();
+			}
+		}
+		Arrays.sort(millis);
+		System.out.printf("%-24s min %6d ms   median %6d ms   max %6d ms%n", label, millis[0], millis[runs / 2],
+				millis[runs - 1]);
+	}
+}
@@ -0,0 +1,90 @@
+package com.taskbridge.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform-thread and virtual-thread request execution under a
+ * dashboard-polling workload. Start two instances of the app, one with the "perf"
+ * profile and one with "perf,virtual", then run:
+ *
+ * <pre>
+ * java -cp target/test-classes com.taskbridge.loadtest.VirtualThreadBenchmark \
+ *     http://localhost:8081 http://localhost:8082 [dashboards=500] [seconds=60] [password]
+ * </pre>
+ *
+ * Dashboard N logs in as user&lt;N&gt;@load.test and polls /tasks, /notifications,
+ * /notifications/unread-count and /users/current, sleeping one second between rounds.
+ * That is 240 reads a minute per account, inside the per-user read limit.
+ */
+public class VirtualThreadBenchmark {
+
+	private static final String[] POLLED = { "/tasks", "/notifications", "/notifications/unread-count",
+			"/users/current" };
+
+	public static void main(String[] args) throws Exception {
+		String platformUrl = args.length > 0 ? args[0] : "http://localhost:8081";
+		String virtualUrl = args.length > 1 ? args[1] : "http://localhost:8082";
+		int dashboards = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+		int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+		String password = args.length > 4 ? args[4] : "password";
+
+		LatencyRecorder.Stats platform = run("platform threads", platformUrl, dashboards, seconds, password);
+		LatencyRecorder.Stats virtual = run("virtual threads", virtualUrl, dashboards, seconds, password);
+
+		System.out.printf("%nthroughput: platform %.1f req/s, virtual %.1f req/s (%.2fx)%n", platform.throughput(),
+				virtual.throughput(), virtual.throughput() / Math.max(platform.throughput(), 0.001));
+		System.out.printf("p99:        platform %.2f ms, virtual %.2f ms%n", platform.p99(), virtual.p99());
+	}
+
+	static LatencyRecorder.Stats run(String label, String baseUrl, int dashboards, int seconds, String password)
+			throws Exception {
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+		LatencyRecorder recorder = new LatencyRecorder();
+
+		// One account per dashboard, all logged in before the clock starts. Logins go a few at a time so
+		// the server's password hashing pool does not shed them.
+		List<String> tokens = new ArrayList<>();
+		try (ExecutorService logins = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+			List<java.util.concurrent.Future<String>> pending = new ArrayList<>();
+			for (int i = 0; i < dashboards; i++) {
+				String email = "user" + i + "@load.test";
+				pending.add(logins.submit(() -> LoadClient.login(client, baseUrl, email, password)));
+			}
+			for (var f : pending) {
+				tokens.add(f.get());
+			}
+		}
+
+		// Client side runs on virtual threads too, so the generator is never the bottleneck
+		try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+			List<java.util.concurrent.Future<?>> running = new ArrayList<>();
+			for (String token : tokens) {
+				running.add(pool.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						for (String path : POLLED) {
+							HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+									.header("Authorization", "Bearer " + token).GET().build();
+							LoadClient.timed(client, request, path, recorder);
+						}
+						Thread.sleep(1000);
+					}
+					return null;
+				}));
+			}
+			for (var f : running) {
+				f.get();
+			}
+		}
+		recorder.print(label + " @ " + baseUrl, seconds);
+		return recorder.total(seconds);
+	}
+}
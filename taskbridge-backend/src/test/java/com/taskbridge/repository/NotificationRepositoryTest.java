@@ -0,0 +1,115 @@
+package com.taskbridge.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+
+@DataJpaTest
+class NotificationRepositoryTest {
+
+	@Autowired
+	private NotificationRepository notificationRepo;
+
+	@Autowired
+	private TestEntityManager em;
+
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void setUp() {
+		alice = em.persist(user("alice@test"));
+		bob = em.persist(user("bob@test"));
+	}
+
+	@Test
+	void markAllReadUpToStopsAtTheLastSeenIdAndTheCallersRows() {
+		Notification first = notify(alice, false);
+		Notification seen = notify(alice, false);
+		Notification later = notify(alice, false);
+		Notification others = notify(bob, false);
+
+		assertEquals(2, notificationRepo.markAllReadUpTo(alice, seen.getId()));
+		em.clear();
+
+		assertTrue(reload(first).isRead());
+		assertTrue(reload(seen).isRead());
+		assertFalse(reload(later).isRead());
+		assertFalse(reload(others).isRead());
+		assertEquals(1, notificationRepo.markAllReadUpTo(alice, Long.MAX_VALUE));
+	}
+
+	@Test
+	void markReadOnlyUpdatesTheCallersOwnNotification() {
+		Notification own = notify(alice, false);
+		Notification others = notify(bob, false);
+
+		assertEquals(1, notificationRepo.markRead(own.getId(), alice));
+		assertEquals(0, notificationRepo.markRead(others.getId(), alice));
+		assertEquals(0, notificationRepo.markRead(own.getId() + 1000, alice));
+		em.clear();
+		assertFalse(reload(others).isRead());
+	}
+
+	@Test
+	void retentionCandidatesAreReadAndOlderThanTheCutoffInIdOrder() {
+		LocalDateTime old = LocalDateTime.now().minusDays(40);
+		Notification oldRead = notify(alice, true);
+		Notification oldUnread = notify(alice, false);
+		Notification recentRead = notify(bob, true);
+		Notification oldReadToo = notify(bob, true);
+		age(oldRead, old);
+		age(oldUnread, old);
+		age(oldReadToo, old);
+
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+		assertEquals(List.of(oldRead.getId(), oldReadToo.getId()),
+				notificationRepo.findReadIdsOlderThan(cutoff, PageRequest.of(0, 10)));
+		assertEquals(List.of(oldRead.getId()), notificationRepo.findReadIdsOlderThan(cutoff, PageRequest.of(0, 1)));
+		assertFalse(notificationRepo.findReadIdsOlderThan(cutoff, PageRequest.of(0, 10)).contains(recentRead.getId()));
+	}
+
+	private Notification notify(User user, boolean read) {
+		Notification notification = new Notification();
+		notification.setUser(user);
+		notification.setTitle("Title");
+		notification.setMessage("Message");
+		notification.setRead(read);
+		return em.persistAndFlush(notification);
+	}
+
+	// @PrePersist stamps now(), so backdate with an update
+	private void age(Notification notification, LocalDateTime timestamp) {
+		em.getEntityManager().createQuery("update Notification n set n.timestamp = :t where n.id = :id")
+				.setParameter("t", timestamp)
+				.setParameter("id", notification.getId())
+				.executeUpdate();
+	}
+
+	private Notification reload(Notification notification) {
+		return em.find(Notification.class, notification.getId());
+	}
+
+	private static User user(String email) {
+		User user = new User();
+		user.setName(email);
+		user.setEmail(email);
+		user.setPassword("x");
+		user.setRole(Role.USER);
+		return user;
+	}
+}
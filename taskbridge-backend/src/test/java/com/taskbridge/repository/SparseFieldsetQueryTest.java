@@ -0,0 +1,75 @@
+package com.taskbridge.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.User;
+
+@DataJpaTest
+@Import(SparseFieldsetQuery.class)
+class SparseFieldsetQueryTest {
+
+	@Autowired
+	private SparseFieldsetQuery fieldsetQuery;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@ParameterizedTest
+	@ValueSource(strings = { "password", "tokenVersion", "id,password", "name, password", "PASSWORD", "class",
+			"assignedTo", "name.length", "role.name", "", " , " })
+	void userFieldsOutsideTheWhitelistAreRejected(String fields) {
+		assertThrows(IllegalArgumentException.class, () -> SparseFieldsetQuery.parse(fields, User.class));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "assignedTo.password", "assignedBy.tokenVersion", "backupAssignee.password",
+			"assignedTo.assignedTo.name", "assignedTo.", ".name", "title.length", "creator.name", "version" })
+	void taskFieldsAndNestedPathsOutsideTheWhitelistAreRejected(String fields) {
+		assertThrows(IllegalArgumentException.class, () -> SparseFieldsetQuery.parse(fields, Task.class));
+		assertThrows(IllegalArgumentException.class, () -> SparseFieldsetQuery.parse(fields, ArchivedTask.class));
+	}
+
+	@Test
+	void selectsOnlyTheRequestedColumnsAndNestsRelations() {
+		User requester = em.persist(user("requester@test"));
+		Task task = new Task();
+		task.setTitle("Order chairs");
+		task.setAssignedBy(requester);
+		em.persistAndFlush(task);
+
+		List<Map<String, Object>> rows = fieldsetQuery.select(Task.class,
+				SparseFieldsetQuery.parse("title, assignedBy.email, assignedTo.name", Task.class), null);
+
+		assertEquals(1, rows.size());
+		Map<String, Object> row = rows.get(0);
+		assertEquals(Set.of("title", "assignedBy", "assignedTo"), row.keySet());
+		assertEquals(Map.of("email", "requester@test"), row.get("assignedBy"));
+		assertNull(row.get("assignedTo"));
+	}
+
+	private static User user(String email) {
+		User user = new User();
+		user.setName(email);
+		user.setEmail(email);
+		user.setPassword("secret-hash");
+		user.setRole(Role.USER);
+		return user;
+	}
+}
@@ -0,0 +1,68 @@
+package com.taskbridge.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InMemoryOtpStoreTest {
+
+	private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+	private InMemoryOtpStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new InMemoryOtpStore();
+		ReflectionTestUtils.setField(store, "clock", (LongSupplier) now::get);
+		ReflectionTestUtils.setField(store, "ttlMinutes", 15L);
+		ReflectionTestUtils.setField(store, "maxAttempts", 3);
+		ReflectionTestUtils.setField(store, "maxEntries", 2);
+	}
+
+	@Test
+	void codeIsSingleUse() {
+		String code = store.issue("a@test");
+		assertEquals(6, code.length());
+		assertEquals(OtpStore.Result.OK, store.verify("a@test", code));
+		assertEquals(OtpStore.Result.INVALID, store.verify("a@test", code));
+	}
+
+	@Test
+	void burnsCodeAfterTooManyWrongGuesses() {
+		String code = store.issue("a@test");
+		String wrong = code.equals("000000") ? "000001" : "000000";
+		assertEquals(OtpStore.Result.INVALID, store.verify("a@test", wrong));
+		assertEquals(OtpStore.Result.INVALID, store.verify("a@test", wrong));
+		assertEquals(OtpStore.Result.TOO_MANY_ATTEMPTS, store.verify("a@test", wrong));
+		assertEquals(OtpStore.Result.TOO_MANY_ATTEMPTS, store.verify("a@test", code));
+	}
+
+	@Test
+	void expiresAndIsSweptByTheWheel() {
+		String code = store.issue("a@test");
+		now.addAndGet(15 * 60_000 + 1);
+		assertEquals(OtpStore.Result.EXPIRED, store.verify("a@test", code));
+
+		store.issue("b@test");
+		now.addAndGet(15 * 60_000 + 2000);
+		store.expire();
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void reissueReplacesPendingCodeAndSizeIsBounded() {
+		String first = store.issue("a@test");
+		String second = store.issue("a@test");
+		if (!first.equals(second)) {
+			assertNotEquals(OtpStore.Result.OK, store.verify("a@test", first));
+		}
+		store.issue("b@test");
+		assertThrows(IllegalStateException.class, () -> store.issue("c@test"));
+	}
+}
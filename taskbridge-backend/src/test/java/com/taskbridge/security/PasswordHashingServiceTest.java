@@ -0,0 +1,43 @@
+package com.taskbridge.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+	private PasswordHashingService hasher(int cost) {
+		return new PasswordHashingService(new BCryptPasswordEncoder(cost), new SimpleMeterRegistry(), 1, 4, 5000);
+	}
+
+	@Test
+	void encodesAndMatchesOnThePool() {
+		PasswordHashingService hasher = hasher(4);
+		String hash = hasher.encode("secret");
+		assertTrue(hasher.matches("secret", hash));
+		assertFalse(hasher.matches("wrong", hash));
+		assertFalse(hasher.needsRehash(hash));
+	}
+
+	@Test
+	void upgradesHashesMadeAtALowerCost() throws Exception {
+		String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+		PasswordHashingService hasher = hasher(5);
+		assertTrue(hasher.needsRehash(oldHash));
+
+		CompletableFuture<String> stored = new CompletableFuture<>();
+		hasher.rehashAsync("secret", stored::complete);
+		String newHash = stored.get(5, TimeUnit.SECONDS);
+		assertEquals("$2a$05$", newHash.substring(0, 7));
+		assertTrue(hasher.matches("secret", newHash));
+		assertFalse(hasher.needsRehash(newHash));
+	}
+}
@@ -0,0 +1,59 @@
+package com.taskbridge.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RateLimiterTest {
+
+	private RateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new RateLimiter();
+		ReflectionTestUtils.setField(limiter, "maxEntries", 2);
+		ReflectionTestUtils.setField(limiter, "idleEvictMillis", 600000L);
+	}
+
+	@Test
+	void admitsUpToCapacityThenAsksToRetry() {
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, limiter.tryAcquire("read", "user:a", 60, 5));
+		}
+		long retryAfter = limiter.tryAcquire("read", "user:a", 60, 5);
+		assertTrue(retryAfter >= 1 && retryAfter <= 2, "retry after " + retryAfter);
+	}
+
+	@Test
+	void callersAndRouteClassesHaveSeparateBuckets() {
+		assertEquals(0, limiter.tryAcquire("read", "user:a", 60, 1));
+		assertTrue(limiter.tryAcquire("read", "user:a", 60, 1) > 0);
+		assertEquals(0, limiter.tryAcquire("write", "user:a", 60, 1));
+		assertEquals(0, limiter.tryAcquire("read", "user:b", 60, 1));
+	}
+
+	@Test
+	void mapStaysBoundedWhenKeysFlood() {
+		for (int i = 0; i < 50; i++) {
+			limiter.tryAcquire("read", "ip:" + i, 60, 10);
+		}
+		assertTrue(limiter.size() <= 2);
+	}
+
+	@Test
+	void newCallerGetsOwnBucketAfterFloodAndLeastRecentKeysAreDropped() throws InterruptedException {
+		limiter.tryAcquire("read", "user:a", 60, 1);
+		Thread.sleep(5);
+		for (int i = 0; i < 50; i++) {
+			limiter.tryAcquire("read", "ip:" + i, 60, 1);
+		}
+
+		assertEquals(0, limiter.tryAcquire("read", "user:new", 60, 1));
+		assertTrue(limiter.tryAcquire("read", "user:new", 60, 1) > 0);
+		assertEquals(0, limiter.tryAcquire("read", "user:other", 60, 1));
+		assertTrue(limiter.size() <= 2);
+	}
+}
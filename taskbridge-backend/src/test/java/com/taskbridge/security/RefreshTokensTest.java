@@ -0,0 +1,90 @@
+package com.taskbridge.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskbridge.entity.RefreshSession;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.RefreshSessionRepository;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RefreshTokensTest {
+
+	private final RefreshSessionRepository sessionRepo = mock(RefreshSessionRepository.class);
+	private final RefreshTokens refreshTokens = new RefreshTokens();
+	private JwtUtil jwtUtil;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secret", "0123456789abcdef0123456789abcdef0123456789");
+		ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 60000L);
+		ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+		jwtUtil.init();
+		ReflectionTestUtils.setField(refreshTokens, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(refreshTokens, "sessionRepo", sessionRepo);
+		ReflectionTestUtils.setField(refreshTokens, "refreshExpiration", 60000L);
+		ReflectionTestUtils.setField(refreshTokens, "reuseGraceMillis", 30000L);
+		user = new User();
+		user.setId(7L);
+		user.setEmail("u@test");
+	}
+
+	@Test
+	void newestTokenIsRotated() {
+		when(sessionRepo.findById("s")).thenReturn(Optional.of(session(3, LocalDateTime.now().minusMinutes(5))));
+		when(sessionRepo.advance(eq("s"), eq(3L), any())).thenReturn(1);
+
+		String next = refreshTokens.rotate(user, claims(3));
+
+		assertNotNull(next);
+		assertEquals(4, jwtUtil.parse(next).get("n", Number.class).longValue());
+		assertEquals("s", jwtUtil.parse(next).get("sid", String.class));
+	}
+
+	@Test
+	void concurrentRefreshWithinGraceGetsTheWinnersToken() {
+		when(sessionRepo.findById("s")).thenReturn(Optional.of(session(3, LocalDateTime.now().minusMinutes(5))),
+				Optional.of(session(4, LocalDateTime.now())));
+		when(sessionRepo.advance(eq("s"), anyLong(), any())).thenReturn(0);
+
+		String next = refreshTokens.rotate(user, claims(3));
+
+		assertEquals(4, jwtUtil.parse(next).get("n", Number.class).longValue());
+	}
+
+	@Test
+	void retiredTokenEndsTheSession() {
+		when(sessionRepo.findById("s")).thenReturn(Optional.of(session(5, LocalDateTime.now().minusMinutes(5))));
+
+		assertNull(refreshTokens.rotate(user, claims(3)));
+		verify(sessionRepo).deleteById("s");
+	}
+
+	private Claims claims(long counter) {
+		return jwtUtil.parse(jwtUtil.generateRefreshToken(user, "s", counter,
+				new Date(System.currentTimeMillis() + 60000)));
+	}
+
+	private RefreshSession session(long counter, LocalDateTime rotatedAt) {
+		return new RefreshSession("s", 7L, counter, rotatedAt, LocalDateTime.now().plusDays(1));
+	}
+}
@@ -0,0 +1,101 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.taskbridge.entity.AuditLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditColdStoreTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void sealedRowsRoundTripAndSurviveRestart() throws IOException {
+		AuditColdStore store = store();
+		List<AuditLog> rows = rows(0, 500);
+		rows.get(7).setDetails(null);
+		rows.get(8).setPerformedBy(null);
+		rows.get(499).setTimestamp(START.plusMinutes(499).plusNanos(654_321_000));
+		store.seal(rows);
+
+		List<AuditLog> found = store().search(null, null, null, 1000);
+
+		assertEquals(500, found.size());
+		AuditLog newest = found.get(0);
+		assertEquals(499L, newest.getId());
+		assertEquals(START.plusMinutes(499).plusNanos(654_321_000), newest.getTimestamp());
+		assertEquals("admin" + (499 % 3) + "@test", newest.getPerformedBy());
+		assertEquals("Details for entry 499 ü", newest.getDetails());
+		AuditLog withoutDetails = found.get(499 - 7);
+		assertNull(withoutDetails.getDetails());
+		assertNull(found.get(499 - 8).getPerformedBy());
+		assertEquals(List.of(0L, 1L), store.latest().ids().subList(0, 2));
+	}
+
+	@Test
+	void searchFiltersByTimeAndActionAndPrunesSegments() throws IOException {
+		AuditColdStore store = store();
+		AuditSegment january = store.seal(rows(0, 100));
+		AuditSegment later = store.seal(rows(10_000, 100));
+
+		List<AuditLog> found = store.search(START.plusMinutes(10), START.plusMinutes(19), "RESOLVE_TASK", 1000);
+
+		assertTrue(found.stream().allMatch(log -> "RESOLVE_TASK".equals(log.getAction())));
+		assertEquals(List.of(17L, 13L), found.stream().map(AuditLog::getId).toList());
+		assertFalse(later.mayContain(START.plusMinutes(10), START.plusMinutes(19), null));
+		assertFalse(january.mayContain(null, null, "NO_SUCH_ACTION"));
+	}
+
+	@Test
+	void limitKeepsTheNewestRowsAcrossSegments() throws IOException {
+		AuditColdStore store = store();
+		store.seal(rows(0, 50));
+		store.seal(rows(50, 50));
+
+		List<AuditLog> found = store.search(null, null, null, 60);
+
+		assertEquals(60, found.size());
+		assertEquals(99L, found.get(0).getId());
+		assertEquals(40L, found.get(59).getId());
+	}
+
+	@Test
+	void searchFindsSegmentsSealedByAnotherNode() throws IOException {
+		AuditColdStore reader = store();
+		AuditColdStore sealer = store();
+		sealer.seal(rows(0, 20));
+
+		assertEquals(20, reader.search(null, null, null, 1000).size());
+		assertEquals(1, reader.segmentCount());
+	}
+
+	private AuditColdStore store() throws IOException {
+		return new AuditColdStore(dir.toString(), new SimpleMeterRegistry());
+	}
+
+	private static List<AuditLog> rows(int first, int count) {
+		String[] actions = { "REASSIGN_TASK", "RESOLVE_TASK", "UPDATE_SETTING", "SUSPEND_USER" };
+		List<AuditLog> rows = new ArrayList<>();
+		for (int i = first; i < first + count; i++) {
+			rows.add(new AuditLog((long) i, actions[i % 4], "admin" + (i % 3) + "@test", "Details for entry " + i + " ü",
+					START.plusMinutes(i)));
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,139 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.AuditLog;
+import com.taskbridge.repository.AuditLogRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AuditLogServiceTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@TempDir
+	Path dir;
+
+	private final AuditLogRepository auditLogRepo = mock(AuditLogRepository.class);
+	private AuditColdStore coldStore;
+	private AuditLogService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		coldStore = new AuditColdStore(dir.toString(), new SimpleMeterRegistry());
+		service = new AuditLogService();
+		TransactionTemplate tx = mock(TransactionTemplate.class);
+		doAnswer(inv -> {
+			inv.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(tx).executeWithoutResult(any());
+		ReflectionTestUtils.setField(service, "auditLogRepo", auditLogRepo);
+		ReflectionTestUtils.setField(service, "coldStore", coldStore);
+		ReflectionTestUtils.setField(service, "transactionTemplate", tx);
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "afterDays", 90);
+		ReflectionTestUtils.setField(service, "segmentRows", 10);
+		ReflectionTestUtils.setField(service, "maxSegments", 10);
+		ReflectionTestUtils.setField(service, "deleteBatchSize", 4);
+	}
+
+	@Test
+	void searchContinuesIntoTheColdTierWhereTheHotTableRunsOut() throws IOException {
+		coldStore.seal(rows(0, 10));
+		when(auditLogRepo.search(eq(null), eq(null), eq(null), any(Pageable.class)))
+				.thenReturn(newestFirst(rows(10, 3)));
+
+		List<AuditLog> found = service.search(null, null, null, 6);
+
+		assertEquals(List.of(12L, 11L, 10L, 9L, 8L, 7L), found.stream().map(AuditLog::getId).toList());
+	}
+
+	@Test
+	void fullHotPageDoesNotTouchTheColdTier() throws IOException {
+		coldStore.seal(rows(0, 10));
+		when(auditLogRepo.search(eq(null), eq(null), eq(null), any(Pageable.class)))
+				.thenReturn(newestFirst(rows(10, 3)));
+
+		assertEquals(List.of(12L, 11L, 10L),
+				service.search(null, null, null, 3).stream().map(AuditLog::getId).toList());
+	}
+
+	@Test
+	void sealedRowsAreDeletedInBatchesAfterTheSegmentIsWritten() {
+		List<AuditLog> rows = rows(0, 6);
+		when(auditLogRepo.findOlderThan(any(), any(Pageable.class))).thenReturn(rows);
+
+		assertEquals(6, service.sealColdEntries());
+
+		assertEquals(1, coldStore.segmentCount());
+		LocalDateTime sealedUpTo = START.plusMinutes(5);
+		verify(auditLogRepo).deleteSealed(List.of(0L, 1L, 2L, 3L), sealedUpTo);
+		verify(auditLogRepo).deleteSealed(List.of(4L, 5L), sealedUpTo);
+	}
+
+	@Test
+	void interruptedDeleteIsFinishedBeforeTheNextSeal() throws IOException {
+		// A previous run sealed rows 0-5 and died before deleting them
+		coldStore.seal(rows(0, 6));
+		InOrder order = inOrder(auditLogRepo);
+		when(auditLogRepo.findOlderThan(any(), any(Pageable.class))).thenReturn(List.of());
+
+		assertEquals(0, service.sealColdEntries());
+
+		order.verify(auditLogRepo).deleteSealed(List.of(0L, 1L, 2L, 3L), START.plusMinutes(5));
+		order.verify(auditLogRepo).deleteSealed(List.of(4L, 5L), START.plusMinutes(5));
+		order.verify(auditLogRepo).findOlderThan(any(), any(Pageable.class));
+		assertEquals(1, coldStore.segmentCount());
+	}
+
+	@Test
+	void disabledNodeNeitherSealsNorDeletes() throws IOException {
+		coldStore.seal(rows(0, 6));
+		ReflectionTestUtils.setField(service, "enabled", false);
+
+		assertEquals(0, service.sealColdEntries());
+		service.finishInterruptedSeal();
+
+		verify(auditLogRepo, never()).findOlderThan(any(), any(Pageable.class));
+		verify(auditLogRepo, never()).deleteSealed(anyList(), any());
+	}
+
+	private static List<AuditLog> rows(int first, int count) {
+		List<AuditLog> rows = new ArrayList<>();
+		for (int i = first; i < first + count; i++) {
+			rows.add(new AuditLog((long) i, "RESOLVE_TASK", "admin@test", "Entry " + i, START.plusMinutes(i)));
+		}
+		return rows;
+	}
+
+	private static List<AuditLog> newestFirst(List<AuditLog> rows) {
+		List<AuditLog> reversed = new ArrayList<>(rows);
+		Collections.reverse(reversed);
+		return reversed;
+	}
+}
@@ -0,0 +1,163 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.taskbridge.entity.BroadcastNotification;
+import com.taskbridge.entity.BroadcastReadState;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.BroadcastNotificationRepository;
+import com.taskbridge.repository.BroadcastReadStateRepository;
+import com.taskbridge.repository.NotificationRepository;
+
+class BroadcastServiceTest {
+
+	private final BroadcastNotificationRepository broadcastRepo = mock(BroadcastNotificationRepository.class);
+	private final BroadcastReadStateRepository readStateRepo = mock(BroadcastReadStateRepository.class);
+	private final NotificationRepository notificationRepo = mock(NotificationRepository.class);
+	private BroadcastService service;
+	private User manager;
+
+	@BeforeEach
+	void setUp() {
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+		service = new BroadcastService(transactionManager);
+		ReflectionTestUtils.setField(service, "broadcastRepo", broadcastRepo);
+		ReflectionTestUtils.setField(service, "readStateRepo", readStateRepo);
+		ReflectionTestUtils.setField(service, "notificationRepo", notificationRepo);
+		ReflectionTestUtils.setField(service, "retentionDays", 30);
+		ReflectionTestUtils.setField(service, "maxRetries", 3);
+		ReflectionTestUtils.setField(service, "retryBackoffMillis", 1L);
+		manager = new User();
+		manager.setId(42L);
+		manager.setRole(Role.MANAGER);
+	}
+
+	@Test
+	void readBitmapRoundTrips() {
+		BitSet readers = new BitSet();
+		readers.set(1);
+		readers.set(4711);
+		readers.set(9999);
+
+		assertEquals(readers, BroadcastService.decode(BroadcastService.encode(readers)));
+		assertEquals(new BitSet(), BroadcastService.decode(BroadcastService.encode(new BitSet())));
+	}
+
+	@Test
+	void denseBitmapOfTenThousandReadersStaysSmall() {
+		BitSet readers = new BitSet();
+		readers.set(1, 10_001);
+
+		byte[] encoded = BroadcastService.encode(readers);
+
+		assertTrue(encoded.length < 100, "encoded " + encoded.length + " bytes");
+		assertEquals(10_000, BroadcastService.decode(encoded).cardinality());
+	}
+
+	@Test
+	void feedMergesBroadcastsUnderNegativeIdsNewestFirst() {
+		LocalDateTime now = LocalDateTime.now();
+		Notification personal = new Notification(5L, manager, "Task Created", "", false, now.minusHours(2));
+		when(notificationRepo.findByUserOrderByTimestampDesc(manager)).thenReturn(List.of(personal));
+		when(broadcastRepo.findVisible(eq(Role.MANAGER), any()))
+				.thenReturn(List.of(broadcast(8L, Role.MANAGER, now.minusHours(1)), broadcast(3L, null, now.minusHours(3))));
+		when(readStateRepo.findAllById(List.of(8L, 3L))).thenReturn(List.of(readState(3L, 42)));
+
+		List<Notification> feed = service.feed(manager);
+
+		assertEquals(List.of(-8L, 5L, -3L), feed.stream().map(Notification::getId).toList());
+		assertFalse(feed.get(0).isRead());
+		assertTrue(feed.get(2).isRead());
+	}
+
+	@Test
+	void unreadCountAddsUnreadBroadcasts() {
+		LocalDateTime now = LocalDateTime.now();
+		when(notificationRepo.countByUserAndIsRead(manager, false)).thenReturn(2L);
+		when(broadcastRepo.findVisible(eq(Role.MANAGER), any()))
+				.thenReturn(List.of(broadcast(8L, Role.MANAGER, now), broadcast(3L, null, now)));
+		when(readStateRepo.findAllById(List.of(8L, 3L))).thenReturn(List.of(readState(3L, 42, 7)));
+
+		assertEquals(3, service.unreadCount(manager));
+	}
+
+	@Test
+	void markReadOnlyAcceptsBroadcastsAddressedToTheUsersRole() {
+		when(broadcastRepo.findById(1L)).thenReturn(Optional.of(broadcast(1L, Role.ADMIN, LocalDateTime.now())));
+		when(broadcastRepo.findById(2L)).thenReturn(Optional.of(broadcast(2L, null, LocalDateTime.now())));
+		when(broadcastRepo.findById(3L)).thenReturn(Optional.of(broadcast(3L, Role.MANAGER, LocalDateTime.now())));
+
+		assertFalse(service.markRead(1L, manager));
+		assertFalse(service.markRead(99L, manager));
+		assertTrue(service.markRead(2L, manager));
+		assertTrue(service.markRead(3L, manager));
+		verify(readStateRepo, never()).findById(1L);
+	}
+
+	@Test
+	void markingAnAlreadyReadBroadcastSucceedsWithoutWriting() {
+		when(broadcastRepo.findById(3L)).thenReturn(Optional.of(broadcast(3L, null, LocalDateTime.now())));
+		when(readStateRepo.findById(3L)).thenReturn(Optional.of(readState(3L, 42)));
+
+		assertTrue(service.markRead(3L, manager));
+		verify(readStateRepo, never()).save(any());
+	}
+
+	@Test
+	void markReadSetsTheUsersBitAndRetriesAfterAConflict() {
+		when(broadcastRepo.findById(3L)).thenReturn(Optional.of(broadcast(3L, null, LocalDateTime.now())));
+		// Each attempt re-reads the row as committed by the other reader
+		when(readStateRepo.findById(3L)).thenAnswer(invocation -> Optional.of(readState(3L, 7)));
+		when(readStateRepo.save(any())).thenThrow(new OptimisticLockingFailureException("stale"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		assertTrue(service.markRead(3L, manager));
+
+		ArgumentCaptor<BroadcastReadState> saved = ArgumentCaptor.forClass(BroadcastReadState.class);
+		verify(readStateRepo, times(2)).save(saved.capture());
+		BitSet readers = BroadcastService.decode(saved.getValue().getBitmap());
+		assertTrue(readers.get(7) && readers.get(42));
+		assertEquals(2, saved.getValue().getReaders());
+	}
+
+	private static BroadcastNotification broadcast(Long id, Role audience, LocalDateTime timestamp) {
+		return new BroadcastNotification(id, audience, "Heads up", "", timestamp);
+	}
+
+	private static BroadcastReadState readState(Long broadcastId, int... readerIds) {
+		BitSet readers = new BitSet();
+		for (int reader : readerIds) {
+			readers.set(reader);
+		}
+		BroadcastReadState state = new BroadcastReadState();
+		state.setBroadcastId(broadcastId);
+		state.setBitmap(BroadcastService.encode(readers));
+		state.setReaders(readers.cardinality());
+		return state;
+	}
+}
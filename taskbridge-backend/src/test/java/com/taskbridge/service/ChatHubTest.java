@@ -0,0 +1,134 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskbridge.entity.ChatMessage;
+import com.taskbridge.security.TokenRevocations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChatHubTest {
+
+	private ChatHub hub;
+
+	private TokenRevocations revocations;
+
+	@BeforeEach
+	void setUp() {
+		revocations = mock(TokenRevocations.class);
+		hub = new ChatHub(new ObjectMapper().findAndRegisterModules(), revocations, new SimpleMeterRegistry(), 10000,
+				200, 2);
+	}
+
+	@Test
+	void deliversOneFrameToEachOfTheUsersSockets() throws Exception {
+		WebSocketSession first = socket("a");
+		WebSocketSession second = socket("b");
+		WebSocketSession other = socket("c");
+		hub.register(1L, first);
+		hub.register(1L, second);
+		hub.register(2L, other);
+
+		hub.deliver(1L, List.of(message("hello")));
+
+		verify(first).sendMessage(any(TextMessage.class));
+		verify(second).sendMessage(any(TextMessage.class));
+		verify(other, never()).sendMessage(any());
+	}
+
+	@Test
+	void connectionsPerUserAreCapped() {
+		assertNotNull(hub.register(1L, socket("a")));
+		assertNotNull(hub.register(1L, socket("b")));
+		assertNull(hub.register(1L, socket("c")));
+		hub.unregister(1L, "a");
+		assertNotNull(hub.register(1L, socket("c")));
+		assertEquals(2, hub.connections());
+	}
+
+	@Test
+	void slowClientIsDisconnectedOnceItsBufferIsFull() throws Exception {
+		WebSocketSession slow = socket("a");
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(slow).sendMessage(any());
+		hub.register(1L, slow);
+
+		// The first frame is stuck in the socket write; later ones queue up behind it
+		new Thread(() -> hub.deliver(1L, List.of(message("first")))).start();
+		writing.await(5, TimeUnit.SECONDS);
+		for (int i = 0; i < 5 && hub.connections() > 0; i++) {
+			hub.deliver(1L, List.of(message("x".repeat(100))));
+		}
+		release.countDown();
+
+		assertEquals(0, hub.connections());
+		verify(slow, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	@Test
+	void sweepClosesSocketsWhoseTokenExpiredOrWasRevoked() throws Exception {
+		long now = System.currentTimeMillis() / 1000;
+		WebSocketSession current = socket("a", now - 60, now + 600);
+		WebSocketSession expired = socket("b", now - 900, now - 1);
+		WebSocketSession revoked = socket("c", now - 30, now + 870);
+		hub.register(1L, current);
+		hub.register(1L, expired);
+		hub.register(2L, revoked);
+		when(revocations.isRevoked(2L, now - 30)).thenReturn(true);
+
+		hub.sweep();
+
+		verify(current, never()).close(any());
+		verify(expired).close(CloseStatus.POLICY_VIOLATION);
+		verify(revoked).close(CloseStatus.POLICY_VIOLATION);
+		assertEquals(1, hub.connections());
+	}
+
+	private static WebSocketSession socket(String id) {
+		long now = System.currentTimeMillis() / 1000;
+		return socket(id, now, now + 900);
+	}
+
+	private static WebSocketSession socket(String id, long issuedAt, long expiresAt) {
+		WebSocketSession session = mock(WebSocketSession.class);
+		when(session.getId()).thenReturn(id);
+		when(session.isOpen()).thenReturn(true);
+		when(session.getAttributes()).thenReturn(
+				new HashMap<>(Map.of(ChatHub.ISSUED_AT, issuedAt, ChatHub.EXPIRES_AT, expiresAt)));
+		return session;
+	}
+
+	private static ChatMessage message(String content) {
+		ChatMessage message = new ChatMessage();
+		message.setContent(content);
+		message.setType("received");
+		return message;
+	}
+}
@@ -0,0 +1,60 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskbridge.repository.NotificationRepository;
+
+class NotificationRetentionServiceTest {
+
+	private final NotificationRepository notificationRepo = mock(NotificationRepository.class);
+	private NotificationRetentionService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new NotificationRetentionService();
+		ReflectionTestUtils.setField(service, "notificationRepo", notificationRepo);
+		ReflectionTestUtils.setField(service, "retentionDays", 30);
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+		ReflectionTestUtils.setField(service, "maxBatches", 3);
+	}
+
+	@Test
+	void deletesInBatchesUntilAShortOne() {
+		when(notificationRepo.findReadIdsOlderThan(any(), any(Pageable.class)))
+				.thenReturn(List.of(1L, 2L), List.of(3L));
+
+		assertEquals(3, service.purgeReadNotifications());
+
+		verify(notificationRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+		verify(notificationRepo).deleteAllByIdInBatch(List.of(3L));
+		ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+		ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+		verify(notificationRepo, times(2)).findReadIdsOlderThan(cutoff.capture(), page.capture());
+		assertEquals(2, page.getValue().getPageSize());
+		assertEquals(LocalDateTime.now().minusDays(30).toLocalDate(), cutoff.getValue().toLocalDate());
+	}
+
+	@Test
+	void stopsAfterMaxBatchesEvenWithMoreToDelete() {
+		when(notificationRepo.findReadIdsOlderThan(any(), any(Pageable.class)))
+				.thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L), List.of(7L, 8L));
+
+		assertEquals(6, service.purgeReadNotifications());
+
+		verify(notificationRepo, times(3)).deleteAllByIdInBatch(any());
+	}
+}
@@ -0,0 +1,69 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProofStoreTest {
+
+	@TempDir
+	Path dir;
+
+	private ProofStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		store = new ProofStore(dir.toString(), 200_000);
+	}
+
+	@Test
+	void storesByContentHash() throws IOException {
+		byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+		ProofStore.Blob blob = store.store(new ByteArrayInputStream(content));
+
+		assertEquals("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824", blob.hash());
+		assertEquals(5, blob.size());
+		assertArrayEquals(content, Files.readAllBytes(store.path(blob.hash())));
+	}
+
+	@Test
+	void identicalUploadsShareOneFile() throws IOException {
+		byte[] content = new byte[150_000];
+		content[100_000] = 7;
+		ProofStore.Blob first = store.store(new ByteArrayInputStream(content));
+		ProofStore.Blob second = store.store(new ByteArrayInputStream(content));
+
+		assertEquals(first, second);
+		assertEquals(150_000, first.size());
+		assertEquals(0, count(dir.resolve("incoming")));
+	}
+
+	@Test
+	void oversizedUploadIsRejectedAndCleanedUp() throws IOException {
+		assertThrows(ProofStore.TooLargeException.class,
+				() -> store.store(new ByteArrayInputStream(new byte[200_001])));
+		assertEquals(0, count(dir.resolve("incoming")));
+	}
+
+	@Test
+	void pathRejectsAnythingButAHash() {
+		assertThrows(IllegalArgumentException.class, () -> store.path("../../etc/passwd"));
+	}
+
+	private static long count(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.TaskEventRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.repository.UserRepository;
+
+// Escalation commits per task, so these run outside a test transaction and clean up after themselves
+@DataJpaTest
+@Import(SlaEscalationService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SlaEscalationServiceTest {
+
+	@Autowired
+	private SlaEscalationService slaService;
+
+	@Autowired
+	private TaskRepository taskRepo;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private NotificationRepository notificationRepo;
+
+	@Autowired
+	private AuditLogRepository auditLogRepo;
+
+	@Autowired
+	private TaskEventRepository eventRepo;
+
+	private User requester;
+	private User agent;
+	private User backup;
+
+	@BeforeEach
+	void setUp() {
+		requester = userRepo.save(user("requester@test"));
+		agent = userRepo.save(user("agent@test"));
+		backup = userRepo.save(user("backup@test"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		notificationRepo.deleteAllInBatch();
+		auditLogRepo.deleteAllInBatch();
+		eventRepo.deleteAllInBatch();
+		taskRepo.deleteAllInBatch();
+		userRepo.deleteAllInBatch();
+	}
+
+	@Test
+	void overdueTaskIsEscalatedOnceWhenEveryNodeFires() {
+		Task task = task("PENDING", LocalDateTime.now().minusHours(1));
+
+		assertEquals(1, slaService.escalate(List.of(task.getId())));
+		assertEquals(0, slaService.escalate(List.of(task.getId())));
+
+		Task escalated = taskRepo.findWithPartiesById(task.getId()).orElseThrow();
+		assertNotNull(escalated.getEscalatedAt());
+		assertEquals(backup.getId(), escalated.getAssignedTo().getId());
+		assertEquals("PENDING", escalated.getStatus());
+		assertEquals(1, auditLogRepo.count());
+		assertEquals(2, notificationRepo.count());
+		List<TaskEvent> events = eventRepo.findAll();
+		assertEquals(1, events.size());
+		assertEquals(TaskEventType.ESCALATED, events.get(0).getType());
+		assertEquals(backup.getId(), events.get(0).getAssigneeId());
+		assertEquals("PENDING", events.get(0).getPreviousStatus());
+		assertNull(events.get(0).getActorId());
+	}
+
+	@Test
+	void taskCompletedBeforeTheEscalationRunsKeepsItsCompletion() {
+		Task task = task("PENDING", LocalDateTime.now().minusHours(1));
+		LocalDateTime completedAt = LocalDateTime.now().withNano(0);
+		task.setStatus("COMPLETED");
+		task.setCompletedAt(completedAt);
+		taskRepo.save(task);
+
+		assertEquals(0, slaService.escalate(List.of(task.getId())));
+
+		Task completed = taskRepo.findById(task.getId()).orElseThrow();
+		assertEquals("COMPLETED", completed.getStatus());
+		assertEquals(completedAt, completed.getCompletedAt());
+		assertEquals(agent.getId(), completed.getAssignedTo().getId());
+		assertNull(completed.getEscalatedAt());
+		assertEquals(0, auditLogRepo.count());
+		assertEquals(0, eventRepo.count());
+	}
+
+	@Test
+	void extendedDeadlineRollsTheClaimBack() {
+		Task task = task("IN_PROGRESS", LocalDateTime.now().plusDays(1));
+
+		assertEquals(0, slaService.escalate(List.of(task.getId())));
+
+		assertNull(taskRepo.findById(task.getId()).orElseThrow().getEscalatedAt());
+		assertEquals(0, notificationRepo.count());
+		assertEquals(1, slaService.trackedCount());
+	}
+
+	@Test
+	void transitionLoadedBeforeTheEscalationFailsInsteadOfUndoingIt() {
+		Task stale = task("PENDING", LocalDateTime.now().minusHours(1));
+
+		assertEquals(1, slaService.escalate(List.of(stale.getId())));
+		stale.setStatus("IN_PROGRESS");
+
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> taskRepo.save(stale));
+		assertEquals(backup.getId(), taskRepo.findById(stale.getId()).orElseThrow().getAssignedTo().getId());
+	}
+
+	private Task task(String status, LocalDateTime deadline) {
+		Task task = new Task();
+		task.setTitle("Replace the router");
+		task.setStatus(status);
+		task.setPriority(TaskPriority.HIGH);
+		task.setDeadline(deadline.withNano(0).toString());
+		task.setAssignedBy(requester);
+		task.setAssignedTo(agent);
+		task.setBackupAssignee(backup);
+		return taskRepo.save(task);
+	}
+
+	private static User user(String email) {
+		User user = new User();
+		user.setName(email);
+		user.setEmail(email);
+		user.setPassword("x");
+		user.setRole(Role.USER);
+		return user;
+	}
+}
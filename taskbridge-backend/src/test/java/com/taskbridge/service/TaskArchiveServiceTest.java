@@ -0,0 +1,139 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.SparseFieldsetQuery;
+import com.taskbridge.repository.TaskRepository;
+
+@DataJpaTest
+@Import({ TaskArchiveService.class, TaskQueryService.class, SparseFieldsetQuery.class })
+class TaskArchiveServiceTest {
+
+	private static final LocalDateTime OLD = LocalDateTime.now().minusDays(45);
+
+	@Autowired
+	private TaskArchiveService archiveService;
+
+	@Autowired
+	private TaskQueryService queryService;
+
+	@Autowired
+	private TaskRepository taskRepo;
+
+	@Autowired
+	private ArchivedTaskRepository archivedTaskRepo;
+
+	@Autowired
+	private TestEntityManager em;
+
+	private User manager;
+	private User requester;
+	private User other;
+
+	@BeforeEach
+	void setUp() {
+		manager = em.persist(user("manager@test", Role.MANAGER));
+		requester = em.persist(user("requester@test", Role.USER));
+		other = em.persist(user("other@test", Role.USER));
+		// One row per batch, so the move is exercised across several transactions
+		ReflectionTestUtils.setField(archiveService, "archiveAfterDays", 30);
+		ReflectionTestUtils.setField(archiveService, "batchSize", 1);
+		ReflectionTestUtils.setField(archiveService, "maxBatches", 10);
+	}
+
+	@Test
+	void movesFinishedTasksPastTheCutoffAndKeepsTheirIds() {
+		Task completedOld = task("Completed long ago", "COMPLETED", requester, OLD);
+		Task rejectedOld = task("Rejected long ago", "REJECTED", other, null);
+		backdateCreation(rejectedOld, OLD);
+		Task completedRecent = task("Completed yesterday", "COMPLETED", requester, LocalDateTime.now().minusDays(1));
+		Task pendingOld = task("Still open", "PENDING", requester, null);
+		backdateCreation(pendingOld, OLD);
+		em.clear();
+
+		assertEquals(2, archiveService.archiveFinishedTasks());
+		em.flush();
+		em.clear();
+
+		assertEquals(Set.of(completedRecent.getId(), pendingOld.getId()), ids(taskRepo.findAll()));
+		assertEquals(Set.of(completedOld.getId(), rejectedOld.getId()),
+				archivedTaskRepo.findAll().stream().map(ArchivedTask::getId).collect(Collectors.toSet()));
+		ArchivedTask archived = archivedTaskRepo.findById(completedOld.getId()).orElseThrow();
+		assertEquals("Completed long ago", archived.getTitle());
+		assertEquals(requester.getId(), archived.getAssignedBy().getId());
+		assertTrue(archived.getArchivedAt() != null);
+		assertEquals(0, archiveService.archiveFinishedTasks());
+	}
+
+	@Test
+	void archivedTasksAreListedOnlyWhenAskedFor() {
+		Task archivedOwn = task("Archived, own", "COMPLETED", requester, OLD);
+		task("Archived, other", "COMPLETED", other, OLD);
+		Task liveOwn = task("Live, own", "PENDING", requester, null);
+		Task liveOther = task("Live, other", "PENDING", other, null);
+		em.clear();
+		archiveService.archiveFinishedTasks();
+		em.flush();
+		em.clear();
+
+		assertEquals(Set.of(liveOwn.getId()), ids(queryService.visibleTasks(requester, false)));
+		assertEquals(Set.of(liveOwn.getId(), archivedOwn.getId()), ids(queryService.visibleTasks(requester, true)));
+		assertEquals(Set.of(liveOwn.getId(), liveOther.getId()), ids(queryService.visibleTasks(manager, false)));
+		assertEquals(4, queryService.visibleTasks(manager, true).size());
+
+		List<Map<String, Object>> fields = queryService.visibleTaskFields(requester, true, "id,title");
+		assertEquals(Set.of("Live, own", "Archived, own"),
+				fields.stream().map(row -> row.get("title")).collect(Collectors.toSet()));
+		assertEquals(1, queryService.visibleTaskFields(requester, false, "id").size());
+	}
+
+	private Task task(String title, String status, User by, LocalDateTime completedAt) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setStatus(status);
+		task.setAssignedBy(by);
+		task.setCompletedAt(completedAt);
+		return em.persistAndFlush(task);
+	}
+
+	// @PrePersist stamps now(), so backdate with an update
+	private void backdateCreation(Task task, LocalDateTime createdAt) {
+		em.getEntityManager().createQuery("update Task t set t.createdAt = :t where t.id = :id")
+				.setParameter("t", createdAt)
+				.setParameter("id", task.getId())
+				.executeUpdate();
+	}
+
+	private static Set<Long> ids(List<Task> tasks) {
+		return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+	}
+
+	private static User user(String email, Role role) {
+		User user = new User();
+		user.setName(email);
+		user.setEmail(email);
+		user.setPassword("x");
+		user.setRole(role);
+		return user;
+	}
+}
@@ -0,0 +1,152 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.ProjectionCheckpoint;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.repository.ProjectionCheckpointRepository;
+import com.taskbridge.repository.TaskEventRepository;
+
+class TaskEventProjectorTest {
+
+	private final TaskEventRepository eventRepo = mock(TaskEventRepository.class);
+	private final ProjectionCheckpointRepository checkpointRepo = mock(ProjectionCheckpointRepository.class);
+	private final RecordingProjection projection = new RecordingProjection();
+	private TaskEventProjector projector;
+
+	@BeforeEach
+	void setUp() {
+		projector = new TaskEventProjector();
+		TransactionTemplate tx = mock(TransactionTemplate.class);
+		doAnswer(inv -> {
+			inv.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(tx).executeWithoutResult(any());
+		ReflectionTestUtils.setField(projector, "projections", List.of(projection));
+		ReflectionTestUtils.setField(projector, "eventRepo", eventRepo);
+		ReflectionTestUtils.setField(projector, "checkpointRepo", checkpointRepo);
+		ReflectionTestUtils.setField(projector, "transactionTemplate", tx);
+		ReflectionTestUtils.setField(projector, "batchSize", 2);
+		ReflectionTestUtils.setField(projector, "gapTimeoutMillis", 60000L);
+		when(checkpointRepo.existsById("test")).thenReturn(true);
+		when(checkpointRepo.advance(eq("test"), anyLong(), anyLong(), any())).thenReturn(1);
+	}
+
+	@Test
+	void resumesFromCheckpointAndAdvancesItPerBatch() {
+		when(checkpointRepo.findById("test")).thenReturn(Optional.of(checkpoint(4)), Optional.of(checkpoint(6)),
+				Optional.of(checkpoint(7)));
+		when(eventRepo.findBatch(eq(4L), any(Pageable.class))).thenReturn(List.of(event(5), event(6)));
+		when(eventRepo.findBatch(eq(6L), any(Pageable.class))).thenReturn(List.of(event(7)));
+
+		assertEquals(3, projector.catchUp(projection));
+		assertEquals(List.of(5L, 6L, 7L), projection.applied);
+		verify(checkpointRepo).advance(eq("test"), eq(4L), eq(6L), any());
+		verify(checkpointRepo).advance(eq("test"), eq(6L), eq(7L), any());
+	}
+
+	@Test
+	void failedBatchLeavesCheckpointForRetry() {
+		when(checkpointRepo.existsById("test")).thenReturn(false);
+		when(checkpointRepo.findById("test")).thenReturn(Optional.empty());
+		when(eventRepo.findBatch(eq(0L), any(Pageable.class))).thenReturn(List.of(event(1)));
+		projection.fail = true;
+
+		assertEquals(0, projector.catchUp(projection));
+		ArgumentCaptor<ProjectionCheckpoint> created = ArgumentCaptor.forClass(ProjectionCheckpoint.class);
+		verify(checkpointRepo).save(created.capture());
+		assertEquals(0, created.getValue().getPosition());
+	}
+
+	@Test
+	void batchLostToAnotherNodeIsNotApplied() {
+		when(checkpointRepo.findById("test")).thenReturn(Optional.of(checkpoint(4)));
+		when(eventRepo.findBatch(eq(4L), any(Pageable.class))).thenReturn(List.of(event(5)));
+		when(checkpointRepo.advance(eq("test"), eq(4L), eq(5L), any())).thenReturn(0);
+
+		assertEquals(0, projector.catchUp(projection));
+		assertEquals(List.of(), projection.applied);
+	}
+
+	@Test
+	void stopsAtAGapUntilItTimesOut() {
+		when(checkpointRepo.findById("test")).thenReturn(Optional.of(checkpoint(4)));
+		when(eventRepo.findBatch(eq(4L), any(Pageable.class))).thenReturn(List.of(event(5), event(7)));
+
+		assertEquals(1, projector.catchUp(projection));
+		assertEquals(List.of(5L), projection.applied);
+		verify(checkpointRepo).advance(eq("test"), eq(4L), eq(5L), any());
+
+		ReflectionTestUtils.setField(projector, "gapTimeoutMillis", 0L);
+		assertEquals(List.of(5L, 7L), projector.untilGap(4, List.of(event(5), event(7))).stream()
+				.map(TaskEvent::getId).toList());
+	}
+
+	@Test
+	void rebuildReplaysFromResetPosition() {
+		projection.resetTo = 3;
+		when(checkpointRepo.findById("test")).thenReturn(Optional.of(checkpoint(3)));
+		when(eventRepo.findBatch(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+		projector.rebuild("test");
+		assertEquals(1, projection.resets);
+		ArgumentCaptor<ProjectionCheckpoint> saved = ArgumentCaptor.forClass(ProjectionCheckpoint.class);
+		verify(checkpointRepo).save(saved.capture());
+		assertEquals(3, saved.getValue().getPosition());
+	}
+
+	private static ProjectionCheckpoint checkpoint(long position) {
+		return new ProjectionCheckpoint("test", position, null);
+	}
+
+	private static TaskEvent event(long id) {
+		TaskEvent event = new TaskEvent();
+		event.setId(id);
+		return event;
+	}
+
+	private static final class RecordingProjection implements TaskEventProjection {
+		final List<Long> applied = new ArrayList<>();
+		boolean fail;
+		long resetTo;
+		int resets;
+
+		@Override
+		public String name() {
+			return "test";
+		}
+
+		@Override
+		public void apply(List<TaskEvent> events) {
+			if (fail) {
+				throw new IllegalStateException("boom");
+			}
+			events.forEach(e -> applied.add(e.getId()));
+		}
+
+		@Override
+		public long reset() {
+			resets++;
+			return resetTo;
+		}
+	}
+}
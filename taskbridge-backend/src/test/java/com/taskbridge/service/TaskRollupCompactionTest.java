@@ -0,0 +1,106 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskbridge.entity.TaskCategory;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.TaskRollup;
+import com.taskbridge.repository.ProjectionCheckpointRepository;
+import com.taskbridge.repository.TaskRollupRepository;
+
+// Compaction and the backfill commit on their own, so these run outside a test transaction
+@DataJpaTest
+@Import(TaskRollupService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskRollupCompactionTest {
+
+	private static final LocalDateTime OLD_DAY = LocalDate.now().minusDays(30).atStartOfDay();
+
+	@Autowired
+	private TaskRollupService rollups;
+
+	@Autowired
+	private TaskRollupRepository rollupRepo;
+
+	@Autowired
+	private ProjectionCheckpointRepository checkpointRepo;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		rollupRepo.deleteAllInBatch();
+		checkpointRepo.deleteAllInBatch();
+	}
+
+	@Test
+	void compactingTwiceFoldsEachDayOnce() {
+		rollups.backfill();
+		rollupRepo.saveAll(List.of(hour(OLD_DAY.plusHours(9), 2), hour(OLD_DAY.plusHours(15), 3)));
+
+		assertEquals(1, rollups.compact());
+		assertEquals(0, rollups.compact());
+
+		List<TaskRollup> rows = rollupRepo.findAll();
+		assertEquals(1, rows.size());
+		assertEquals(TaskRollupService.DAY, rows.get(0).getGranularity());
+		assertEquals(OLD_DAY, rows.get(0).getBucketStart());
+		assertEquals(5, rows.get(0).getCreated());
+	}
+
+	@Test
+	void compactionWaitsForTheBackfill() {
+		rollupRepo.save(hour(OLD_DAY.plusHours(9), 2));
+
+		assertEquals(0, rollups.compact());
+		assertEquals(TaskRollupService.HOUR, rollupRepo.findAll().get(0).getGranularity());
+	}
+
+	@Test
+	void backfillRunsOncePerCheckpoint() {
+		rollups.backfill();
+		assertTrue(rollups.ready());
+		rollupRepo.save(hour(OLD_DAY.plusDays(29), 1));
+
+		// A later start leaves the buckets alone, and a second insert of the checkpoint is refused
+		rollups.backfill();
+		assertEquals(1, rollupRepo.count());
+		assertThrows(DataIntegrityViolationException.class,
+				() -> transactionTemplate.execute(
+						status -> checkpointRepo.insert(TaskRollupService.NAME, 0, LocalDateTime.now())));
+	}
+
+	@Test
+	void aBucketIsStoredOnce() {
+		rollupRepo.save(hour(OLD_DAY, 1));
+
+		assertThrows(DataIntegrityViolationException.class, () -> rollupRepo.save(hour(OLD_DAY, 1)));
+	}
+
+	private static TaskRollup hour(LocalDateTime bucketStart, long created) {
+		TaskRollup row = new TaskRollup();
+		row.setGranularity(TaskRollupService.HOUR);
+		row.setBucketStart(bucketStart);
+		row.setCategory(TaskCategory.values()[0]);
+		row.setPriority(TaskPriority.HIGH);
+		row.setCreated(created);
+		return row;
+	}
+}
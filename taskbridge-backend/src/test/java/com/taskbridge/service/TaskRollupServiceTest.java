@@ -0,0 +1,65 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskbridge.entity.TaskCategory;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.TaskRollup;
+import com.taskbridge.repository.TaskRollupRepository;
+
+class TaskRollupServiceTest {
+
+	private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 2, 9, 15);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void repeatedCompletionIsNotCountedTwice() {
+		TaskRollupRepository rollupRepo = mock(TaskRollupRepository.class);
+		TaskRollupService rollups = new TaskRollupService();
+		ReflectionTestUtils.setField(rollups, "rollupRepo", rollupRepo);
+
+		rollups.apply(List.of(event(TaskEventType.COMPLETED, "IN_PROGRESS", "COMPLETED"),
+				event(TaskEventType.COMPLETED, "COMPLETED", "COMPLETED"),
+				event(TaskEventType.RESOLVED, "COMPLETED", "COMPLETED"),
+				event(TaskEventType.REJECTED, "PENDING", "REJECTED"),
+				event(TaskEventType.REJECTED, "REJECTED", "REJECTED"),
+				// Events recorded before previousStatus existed still count
+				event(TaskEventType.RESOLVED, null, "COMPLETED")));
+
+		ArgumentCaptor<Iterable<TaskRollup>> saved = ArgumentCaptor.forClass(Iterable.class);
+		verify(rollupRepo).findByGranularityAndBucketStartIn(eq(TaskRollupService.HOUR), any());
+		verify(rollupRepo).saveAll(saved.capture());
+		List<TaskRollup> rows = new ArrayList<>();
+		saved.getValue().forEach(rows::add);
+		assertEquals(1, rows.size());
+		assertEquals(2, rows.get(0).getCompleted());
+		assertEquals(1, rows.get(0).getCompleteSamples());
+		assertEquals(1, rows.get(0).getRejected());
+	}
+
+	private static TaskEvent event(TaskEventType type, String previousStatus, String status) {
+		TaskEvent event = new TaskEvent();
+		event.setType(type);
+		event.setPreviousStatus(previousStatus);
+		event.setStatus(status);
+		event.setCategory(TaskCategory.values()[0]);
+		event.setPriority(TaskPriority.URGENT);
+		event.setOccurredAt(AT);
+		event.setTaskAgeSeconds(60L);
+		return event;
+	}
+}
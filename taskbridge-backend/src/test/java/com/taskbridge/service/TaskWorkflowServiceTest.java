@@ -0,0 +1,211 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskbridge.entity.ArchivedTask;
+import com.taskbridge.entity.Notification;
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.Task;
+import com.taskbridge.entity.TaskEvent;
+import com.taskbridge.entity.TaskEventType;
+import com.taskbridge.entity.TaskPriority;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.ArchivedTaskRepository;
+import com.taskbridge.repository.AuditLogRepository;
+import com.taskbridge.repository.NotificationRepository;
+import com.taskbridge.repository.TaskEventRepository;
+import com.taskbridge.repository.TaskRepository;
+import com.taskbridge.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TaskWorkflowServiceTest {
+
+	@Mock
+	private TaskRepository taskRepo;
+	@Mock
+	private UserRepository userRepo;
+	@Mock
+	private NotificationRepository notificationRepo;
+	@Mock
+	private AuditLogRepository auditLogRepo;
+	@Mock
+	private SlaEscalationService slaService;
+	@Mock
+	private TaskEventRepository eventRepo;
+	@Mock
+	private BroadcastService broadcastService;
+	@Mock
+	private ArchivedTaskRepository archivedTaskRepo;
+
+	@InjectMocks
+	private TaskWorkflowService workflow;
+
+	private User requester;
+	private User agent;
+	private Task task;
+
+	@BeforeEach
+	void setUp() {
+		requester = user(1L, "req@test", Role.MANAGER);
+		agent = user(2L, "agent@test", Role.USER);
+		task = new Task();
+		task.setId(10L);
+		task.setTitle("Fix the fence");
+		task.setAssignedBy(requester);
+		task.setAssignedTo(agent);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void completeUpdatesInPlaceAndDefersSideEffectsToCommit() {
+		when(userRepo.findByEmail("agent@test")).thenReturn(Optional.of(agent));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.of(task));
+
+		Task done = workflow.complete(10L, "agent@test", Map.of("feedback", "done"));
+
+		assertEquals("COMPLETED", done.getStatus());
+		assertNotNull(done.getCompletedAt());
+		assertEquals("done", done.getFeedback());
+		verify(taskRepo, never()).save(any());
+		ArgumentCaptor<Notification> sent = ArgumentCaptor.forClass(Notification.class);
+		verify(notificationRepo).save(sent.capture());
+		assertEquals(requester, sent.getValue().getUser());
+
+		ArgumentCaptor<TaskEvent> event = ArgumentCaptor.forClass(TaskEvent.class);
+		verify(eventRepo).save(event.capture());
+		assertEquals(TaskEventType.COMPLETED, event.getValue().getType());
+		assertEquals("COMPLETED", event.getValue().getStatus());
+		assertEquals(2L, event.getValue().getActorId());
+		assertEquals("done", event.getValue().getDetail());
+
+		verify(slaService, never()).untrack(any());
+		commit();
+		verify(slaService).untrack(10L);
+	}
+
+	@Test
+	void eventsCarryTheStatusBeforeTheTransition() {
+		when(userRepo.findByEmail("agent@test")).thenReturn(Optional.of(agent));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.of(task));
+		task.setStatus("IN_PROGRESS");
+
+		workflow.complete(10L, "agent@test", Map.of());
+		workflow.complete(10L, "agent@test", Map.of());
+
+		ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+		verify(eventRepo, times(2)).save(events.capture());
+		assertEquals("IN_PROGRESS", events.getAllValues().get(0).getPreviousStatus());
+		assertEquals("COMPLETED", events.getAllValues().get(1).getPreviousStatus());
+	}
+
+	@Test
+	void onlyTheAssigneeCanStart() {
+		when(userRepo.findByEmail("req@test")).thenReturn(Optional.of(requester));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.of(task));
+
+		assertThrows(TaskWorkflowService.DeniedException.class, () -> workflow.start(10L, "req@test"));
+		verify(notificationRepo, never()).save(any());
+	}
+
+	@Test
+	void usersCannotReject() {
+		when(userRepo.findByEmail("agent@test")).thenReturn(Optional.of(agent));
+
+		assertThrows(TaskWorkflowService.DeniedException.class, () -> workflow.reject(10L, "agent@test", "no"));
+		verify(taskRepo, never()).findWithPartiesById(any());
+	}
+
+	@Test
+	void claimRefusesAssignedTask() {
+		when(userRepo.findByEmail("agent@test")).thenReturn(Optional.of(agent));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.of(task));
+
+		assertThrows(TaskWorkflowService.ConflictException.class, () -> workflow.claim(10L, "agent@test", null));
+		verify(eventRepo, never()).save(any());
+	}
+
+	@Test
+	void qualityScoreIsValidated() {
+		when(userRepo.findByEmail("req@test")).thenReturn(Optional.of(requester));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.of(task));
+
+		assertThrows(IllegalArgumentException.class, () -> workflow.setQualityScore(10L, "req@test", 6));
+		assertEquals(4, workflow.setQualityScore(10L, "req@test", 4).getQualityScore());
+	}
+
+	@Test
+	void proofOfArchivedTaskCanBeViewedButNotReplaced() {
+		ArchivedTask archived = new ArchivedTask();
+		archived.setId(10L);
+		archived.setAssignedBy(requester);
+		archived.setAssignedTo(agent);
+		archived.setProofHash("abc");
+		archived.setProofName("fence.jpg");
+		when(userRepo.findByEmail("agent@test")).thenReturn(Optional.of(agent));
+		when(taskRepo.findWithPartiesById(10L)).thenReturn(Optional.empty());
+		when(archivedTaskRepo.findById(10L)).thenReturn(Optional.of(archived));
+
+		TaskWorkflowService.ProofFile proof = workflow.proofAccess(10L, "agent@test", false);
+
+		assertEquals("abc", proof.hash());
+		assertEquals("fence.jpg", proof.name());
+		assertThrows(NoSuchElementException.class, () -> workflow.proofAccess(10L, "agent@test", true));
+	}
+
+	@Test
+	void urgentRequestIsBroadcastToManagers() {
+		when(userRepo.findByEmail("req@test")).thenReturn(Optional.of(requester));
+		when(taskRepo.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		Task urgent = new Task();
+		urgent.setTitle("Server room flooding");
+		urgent.setPriority(TaskPriority.URGENT);
+
+		workflow.create(urgent, "req@test");
+
+		verify(broadcastService).broadcast(eq(Role.MANAGER), eq("Urgent Request"), any());
+		verify(notificationRepo).save(any());
+	}
+
+	private static void commit() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		synchronizations.forEach(TransactionSynchronization::afterCommit);
+	}
+
+	private static User user(Long id, String email, Role role) {
+		User user = new User();
+		user.setId(id);
+		user.setEmail(email);
+		user.setName(email);
+		user.setRole(role);
+		return user;
+	}
+}
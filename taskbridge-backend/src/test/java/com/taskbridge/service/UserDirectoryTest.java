@@ -0,0 +1,69 @@
+package com.taskbridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskbridge.entity.Role;
+import com.taskbridge.entity.User;
+import com.taskbridge.repository.UserRepository;
+import com.taskbridge.repository.UserSummary;
+
+class UserDirectoryTest {
+
+	private UserDirectory directory;
+
+	@BeforeEach
+	void setUp() {
+		UserRepository repo = mock(UserRepository.class);
+		when(repo.findAllSummaries()).thenReturn(List.of(
+				new UserSummary(1L, "Jane Doe", "jane@corp.test", Role.USER, true, "", false),
+				new UserSummary(2L, "John Smith", "jsmith@corp.test", Role.USER, true, "", false),
+				new UserSummary(3L, "Janet Park", "park@corp.test", Role.MANAGER, true, "", false),
+				new UserSummary(4L, "Adam Jansen", "adam@corp.test", Role.USER, true, "", true)));
+		directory = new UserDirectory();
+		ReflectionTestUtils.setField(directory, "userRepo", repo);
+		directory.reload();
+	}
+
+	private List<Long> ids(UserDirectory.Page page) {
+		return page.content().stream().map(UserSummary::id).toList();
+	}
+
+	@Test
+	void matchesAnyNameWordOrEmailPrefix() {
+		assertEquals(List.of(1L, 3L), ids(directory.search("jan", null, false, 0, 10)));
+		assertEquals(List.of(1L, 3L, 4L), ids(directory.search("JAN", null, true, 0, 10)));
+		assertEquals(List.of(2L), ids(directory.search("jsm", null, false, 0, 10)));
+		assertEquals(List.of(1L), ids(directory.search("jane d", null, false, 0, 10)));
+	}
+
+	@Test
+	void filtersByRoleAndPagesInNameOrder() {
+		UserDirectory.Page first = directory.search(null, Role.USER, true, 0, 2);
+		assertEquals(List.of(4L, 1L), ids(first));
+		assertEquals(3, first.total());
+		assertEquals(List.of(2L), ids(directory.search(null, Role.USER, true, 1, 2)));
+	}
+
+	@Test
+	void reindexesOnRenameAndRemove() {
+		User user = new User();
+		user.setId(2L);
+		user.setName("Johnny Walker");
+		user.setEmail("jsmith@corp.test");
+		user.setRole(Role.MANAGER);
+		directory.put(user);
+		assertEquals(List.of(), ids(directory.search("smith", null, false, 0, 10)));
+		assertEquals(List.of(2L), ids(directory.search("walk", Role.MANAGER, false, 0, 10)));
+
+		directory.remove(1L);
+		assertEquals(List.of(3L), ids(directory.search("jan", null, false, 0, 10)));
+	}
+}
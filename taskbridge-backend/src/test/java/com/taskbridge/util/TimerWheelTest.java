@@ -0,0 +1,54 @@
+package com.taskbridge.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+	@Test
+	void firesEachKeyExactlyAtItsTickAcrossLevels() {
+		TimerWheel<Long> wheel = new TimerWheel<>(1, 0);
+		Random random = new Random(7);
+		long[] deadlines = new long[2000];
+		for (int i = 0; i < deadlines.length; i++) {
+			deadlines[i] = 1 + random.nextInt(300_000);
+			wheel.schedule((long) i, deadlines[i]);
+		}
+		List<Long> fired = new ArrayList<>();
+		for (long now = 1; now <= 300_000; now++) {
+			for (Long key : wheel.advance(now)) {
+				assertEquals(deadlines[key.intValue()], now, "key " + key);
+				fired.add(key);
+			}
+		}
+		assertEquals(deadlines.length, fired.size());
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void cancelAndRescheduleReplacePendingDeadline() {
+		TimerWheel<String> wheel = new TimerWheel<>(1000, 0);
+		wheel.schedule("a", 5_000);
+		wheel.schedule("b", 5_000);
+		wheel.cancel("a");
+		wheel.schedule("b", 9_000);
+		assertTrue(wheel.advance(8_000).isEmpty());
+		assertEquals(List.of("b"), wheel.advance(9_500));
+	}
+
+	@Test
+	void pastDeadlinesAndOverflowStillFire() {
+		TimerWheel<String> wheel = new TimerWheel<>(1, 100);
+		wheel.schedule("late", 50);
+		wheel.schedule("far", 100 + (1L << 24) + 5);
+		assertEquals(List.of("late"), wheel.advance(101));
+		assertTrue(wheel.advance(100 + (1L << 24)).isEmpty());
+		assertEquals(List.of("far"), wheel.advance(100 + (1L << 24) + 5));
+	}
+}
@@ -14,4 +14,46 @@ api.interceptors.request.use((config) => {
   return Promise.reject(error);
 });
 
+// Access tokens are short-lived. On a 401, trade the refresh token for a new access token once and
+// replay the request; concurrent 401s share a single refresh call. Refresh tokens are single-use, so the
+// replacement that comes back is stored too. If refreshing fails (refresh token
+// expired, account suspended), go back to the login page.
+let refreshing = null;
+
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem("refreshToken");
+    refreshing = (refreshToken
+      ? axios.post(`${api.defaults.baseURL}/auth/refresh`, { refreshToken })
+      : Promise.reject(new Error("No refresh token")))
+      .then((res) => {
+        localStorage.setItem("token", res.data.token);
+        localStorage.setItem("refreshToken", res.data.refreshToken);
+        localStorage.setItem("role", res.data.role);
+        return res.data.token;
+      })
+      .finally(() => { refreshing = null; });
+  }
+  return refreshing;
+};
+
+api.interceptors.response.use((response) => response, async (error) => {
+  const original = error.config;
+  if (error.response?.status !== 401 || !original || original._retried || original.url?.startsWith("/auth/")) {
+    return Promise.reject(error);
+  }
+  original._retried = true;
+  try {
+    const token = await refreshAccessToken();
+    original.headers.Authorization = `Bearer ${token}`;
+    return api(original);
+  } catch (refreshError) {
+    localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
+    localStorage.removeItem("role");
+    window.location.href = "/login";
+    return Promise.reject(error);
+  }
+});
+
 export default api;
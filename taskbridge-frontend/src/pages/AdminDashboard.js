@@ -7,6 +7,7 @@ function AdminDashboard() {
     const { settings, refreshSettings: refreshGlobal } = useSettings();
     const [users, setUsers] = useState([]);
     const [tasks, setTasks] = useState([]);
+    const [analytics, setAnalytics] = useState(null);
     const [auditLogs, setAuditLogs] = useState([]);
     const [disputes, setDisputes] = useState([]);
     const [activeTab, setActiveTab] = useState("analytics"); // analytics, directory, logs, disputes, settings
@@ -91,12 +92,15 @@ function AdminDashboard() {
 
     const fetchData = async () => {
         try {
-            const [usersRes, tasksRes] = await Promise.all([
-                api.get("/users"),
-                api.get("/tasks")
+            const yearAgo = new Date(Date.now() - 365 * 24 * 3600 * 1000).toISOString().slice(0, 10);
+            const [usersRes, tasksRes, analyticsRes] = await Promise.all([
+                api.get("/users", { params: { fields: "id,name,email,role,available,suspended" } }),
+                api.get("/tasks", { params: { fields: "id,title,status,rejectionReason,assignedTo.id,assignedTo.name,assignedBy.email" } }),
+                api.get("/admin/analytics", { params: { from: yearAgo } })
             ]);
             setUsers(usersRes.data);
             setTasks(tasksRes.data);
+            setAnalytics(analyticsRes.data.totals);
         } catch (err) {
             console.error("Failed to fetch data", err);
         }
@@ -153,15 +157,16 @@ function AdminDashboard() {
         }
     };
 
-    // Analytics Helper
+    // Analytics Helper: mission totals come from the server-side rollups (last 365 days),
+    // current queue sizes from the task list
     const stats = {
         totalUsers: users.length,
-        totalTasks: tasks.length,
-        completed: tasks.filter(t => t.status === 'COMPLETED').length,
+        totalTasks: analytics ? analytics.created : tasks.length,
+        completed: analytics ? analytics.completed : tasks.filter(t => t.status === 'COMPLETED').length,
         todoList: tasks.filter(t => (t.status === 'PENDING' && t.assignedTo != null) || t.status === 'IN_PROGRESS').length,
         availableQueue: tasks.filter(t => t.status === 'PENDING' && !t.assignedTo).length,
         rejected: tasks.filter(t => t.status === 'REJECTED').length,
-        successRate: tasks.length > 0 ? Math.round((tasks.filter(t => t.status === 'COMPLETED').length / tasks.length) * 100) : 0,
+        successRate: analytics ? Math.round(analytics.successRate) : (tasks.length > 0 ? Math.round((tasks.filter(t => t.status === 'COMPLETED').length / tasks.length) * 100) : 0),
         managers: users.filter(u => u.role === 'MANAGER').length,
         admins: users.filter(u => u.role === 'ADMIN').length,
         clients: users.filter(u => u.role === 'USER').length,
@@ -32,6 +32,7 @@ function Login() {
       console.log("LOGIN SUCCESS:", res.data);
 
       localStorage.setItem("token", res.data.token);
+      localStorage.setItem("refreshToken", res.data.refreshToken);
       localStorage.setItem("role", res.data.role);
 
       // role navigation
@@ -70,6 +70,7 @@ function ManagerDashboard() {
     const [activeTab, setActiveTab] = useState("missions");
     const [selectedFile, setSelectedFile] = useState(null);
     const [viewingProof, setViewingProof] = useState(null);
+    const [proofUrl, setProofUrl] = useState(null);
     const [dragOverCol, setDragOverCol] = useState(null);
     const [employees, setEmployees] = useState([]);
     const [financeStats, setFinanceStats] = useState(null);
@@ -85,14 +86,12 @@ function ManagerDashboard() {
     const fetchData = async () => {
         setLoading(true);
         try {
-            const [tasksRes, infoRes, usersRes] = await Promise.all([
-                api.get("/tasks"),
-                api.get("/users/current"),
-                api.get("/users")
-            ]);
-            setTasks(tasksRes.data);
-            setManagerInfo(infoRes.data);
-            setEmployees(usersRes.data.filter(u => u.role === 'USER' || u.role === 'EMPLOYEE'));
+            // One round trip: tasks, profile, employees and finance stats are composed server-side
+            const res = await api.get("/dashboard/manager");
+            setTasks(res.data.tasks);
+            setManagerInfo(res.data.currentUser);
+            setEmployees(res.data.employees);
+            if (res.data.financeStats) setFinanceStats(res.data.financeStats);
         } catch (err) {
             console.error("Failed to fetch data", err);
         } finally {
@@ -197,16 +196,39 @@ function ManagerDashboard() {
         COMPLETED: tasks.filter(t => t.status === 'COMPLETED' && t.assignedTo?.id === managerInfo?.id)
     };
 
+    // The proof endpoint needs the bearer token, so the file is fetched as a blob rather than linked directly
+    useEffect(() => {
+        if (!viewingProof?.proofHash) {
+            setProofUrl(null);
+            return;
+        }
+        let url = null;
+        api.get(`/tasks/${viewingProof.id}/proof`, { responseType: 'blob' })
+            .then(res => {
+                url = URL.createObjectURL(res.data);
+                setProofUrl(url);
+            })
+            .catch(() => setProofUrl(null));
+        return () => {
+            if (url) URL.revokeObjectURL(url);
+        };
+    }, [viewingProof]);
+
     const completeTaskWithProof = async (taskId) => {
         const feedback = prompt("Enter mission completion text / results:");
         if (feedback === null) return;
 
         const payload = {
             feedback: feedback || "Extraction successful",
-            proof: selectedFile ? `proof_${selectedFile.name}` : "Manual Verification"
+            proof: selectedFile ? selectedFile.name : "Manual Verification"
         };
 
         try {
+            if (selectedFile) {
+                const form = new FormData();
+                form.append("file", selectedFile);
+                await api.post(`/tasks/${taskId}/proof`, form);
+            }
             await api.put(`/tasks/${taskId}/complete`, payload);
             setSelectedFile(null);
             fetchData();
@@ -230,6 +252,22 @@ function ManagerDashboard() {
 
     // ── Backup Assignee ───────────────────────────────────────────────
     const [backupSelections, setBackupSelections] = useState({});
+    const [employeeQuery, setEmployeeQuery] = useState("");
+    const employeeSearchTimer = useRef(null);
+
+    // The dashboard ships only the first page of employees; typing searches the server-side directory
+    const searchEmployees = (q) => {
+        setEmployeeQuery(q);
+        clearTimeout(employeeSearchTimer.current);
+        employeeSearchTimer.current = setTimeout(async () => {
+            try {
+                const res = await api.get("/users/directory", { params: { q, role: "USER", size: 50 } });
+                setEmployees(res.data.content);
+            } catch (err) {
+                console.error("Employee search failed", err);
+            }
+        }, 200);
+    };
 
     const assignBackup = async (taskId) => {
         const backupUserId = backupSelections[taskId];
@@ -359,6 +397,13 @@ function ManagerDashboard() {
                                             {t.backupAssignee ? (
                                                 <div style={{ fontSize: '0.8rem', color: 'var(--accent)', marginBottom: 8 }}>⛑ {t.backupAssignee.name}</div>
                                             ) : null}
+                                            <input
+                                                type="text"
+                                                placeholder="Search employees..."
+                                                value={employeeQuery}
+                                                onChange={e => searchEmployees(e.target.value)}
+                                                style={{ width: '100%', marginBottom: 6, background: 'rgba(255,255,255,0.05)', border: '1px solid rgba(255,255,255,0.1)', borderRadius: 8, color: 'white', padding: '6px 8px', fontSize: '0.75rem' }}
+                                            />
                                             <div style={{ display: 'flex', gap: 6 }}>
                                                 <select
                                                     value={backupSelections[t.id] || ''}
@@ -404,7 +449,7 @@ function ManagerDashboard() {
                                     <div key={t.id} className="kanban-card" style={{ opacity: 0.9 }} onClick={() => setViewingProof(t)}>
                                         <strong style={{ display: 'block', marginBottom: 5 }}>{t.title}</strong>
                                         <div style={{ fontSize: '0.7rem', color: 'var(--accent)', marginBottom: 10 }}>✅ Verified Ops</div>
-                                        {t.completionProof && <div style={{ marginBottom: 10, fontSize: '0.75rem', textDecoration: 'underline', cursor: 'pointer' }}>View Proof</div>}
+                                        {(t.completionProof || t.proofHash) && <div style={{ marginBottom: 10, fontSize: '0.75rem', textDecoration: 'underline', cursor: 'pointer' }}>View Proof</div>}
 
                                         {/* Quality Review Score */}
                                         <div onClick={e => e.stopPropagation()} style={{ paddingTop: 10, borderTop: '1px solid rgba(255,255,255,0.05)' }}>
@@ -517,10 +562,17 @@ function ManagerDashboard() {
                     <div className="gallery-modal" onClick={e => e.stopPropagation()}>
                         <div style={{ position: 'absolute', top: -40, right: 0, color: 'white', cursor: 'pointer', fontSize: '1.5rem' }} onClick={() => setViewingProof(null)}>✕ Close</div>
                         <h2 style={{ color: 'white', marginBottom: 20 }}>Mission Proof: {viewingProof.title}</h2>
-                        <img
-                            src={`https://images.unsplash.com/photo-1541888946425-d81bb19480c5?auto=format&fit=crop&w=1000&q=80`}
-                            alt="Mission Proof"
-                        />
+                        {proofUrl && viewingProof.proofContentType?.startsWith('image/') && (
+                            <img src={proofUrl} alt="Mission Proof" />
+                        )}
+                        {proofUrl && !viewingProof.proofContentType?.startsWith('image/') && (
+                            <a href={proofUrl} download={viewingProof.proofName} style={{ color: 'white' }}>
+                                📎 {viewingProof.proofName} ({Math.ceil(viewingProof.proofSize / 1024)} KB)
+                            </a>
+                        )}
+                        {!viewingProof.proofHash && (
+                            <p style={{ color: 'rgba(255,255,255,0.7)' }}>No file attached ({viewingProof.completionProof})</p>
+                        )}
                         <div style={{ color: 'rgba(255,255,255,0.7)', marginTop: 20, textAlign: 'center' }}>
                             <p><strong>Feedback:</strong> {viewingProof.feedback}</p>
                             <p><strong>Completed At:</strong> {new Date(viewingProof.completedAt).toLocaleString()}</p>
@@ -20,6 +20,8 @@ function UserDashboard() {
     const [selectedFile, setSelectedFile] = useState(null);
     const [unreadCount, setUnreadCount] = useState(0);
     const fileInputRef = useRef(null);
+    const chatSocketRef = useRef(null);
+    const lastMessageAtRef = useRef(null);
 
     const DRAFT_KEY = "taskbridge_task_draft";
 
@@ -35,14 +37,46 @@ function UserDashboard() {
 
     useEffect(() => {
         document.body.className = 'user-theme';
-        fetchTasks();
-        fetchManagers();
-        fetchNotifications();
-        fetchUnreadCount();
-        fetchMessages();
+        fetchDashboard();
         return () => { document.body.className = ''; };
     }, []);
 
+    // Live chat: messages and bot replies are pushed over /ws/chat. After a drop (slow connection, idle
+    // timeout, expired token) reconnect and fetch only what arrived in between; that GET also refreshes the
+    // access token through the axios interceptor before the socket is reopened with it.
+    useEffect(() => {
+        let socket = null;
+        let retry = null;
+        let closed = false;
+        const connect = async (catchUp) => {
+            if (catchUp) await fetchMessages();
+            if (closed) return;
+            const url = api.defaults.baseURL.replace(/^http/, "ws") + "/ws/chat?token="
+                + encodeURIComponent(localStorage.getItem("token") || "");
+            socket = new WebSocket(url);
+            socket.onmessage = (e) => {
+                const data = JSON.parse(e.data);
+                if (Array.isArray(data)) {
+                    mergeMessages(data);
+                    fetchUnreadCount(); // The bot reply comes with a notification
+                } else if (data.error) {
+                    console.error("Chat error:", data.error);
+                }
+            };
+            socket.onclose = () => {
+                chatSocketRef.current = null;
+                if (!closed) retry = setTimeout(() => connect(true), 5000);
+            };
+            chatSocketRef.current = socket;
+        };
+        connect(false);
+        return () => {
+            closed = true;
+            clearTimeout(retry);
+            if (socket) socket.close();
+        };
+    }, []);
+
     // Live polling: re-fetch tasks every 15 seconds so history stays up to date
     useEffect(() => {
         const interval = setInterval(() => {
@@ -51,6 +85,20 @@ function UserDashboard() {
         return () => clearInterval(interval);
     }, []);
 
+    // Initial load in one round trip; the individual fetchers below handle later refreshes
+    const fetchDashboard = async () => {
+        try {
+            const res = await api.get("/dashboard/user");
+            setTasks(res.data.tasks);
+            setManagers(res.data.managers);
+            setNotifications(res.data.notifications);
+            setUnreadCount(res.data.unreadCount);
+            mergeMessages(res.data.messages);
+        } catch (err) {
+            console.error("Failed to fetch dashboard", err);
+        }
+    };
+
     const fetchNotifications = async () => {
         try {
             const res = await api.get("/notifications");
@@ -70,21 +118,26 @@ function UserDashboard() {
         }
     };
 
-    const fetchMessages = async () => {
-        try {
-            const res = await api.get("/messages");
-            setChatMessages(res.data);
-        } catch (err) {
-            console.error("Failed to fetch messages", err);
+    // Appends server messages not seen yet and drops the optimistic placeholders they replace
+    const mergeMessages = (incoming) => {
+        if (!incoming || incoming.length === 0) return;
+        const latest = incoming[incoming.length - 1].timestamp;
+        if (latest && (!lastMessageAtRef.current || latest > lastMessageAtRef.current)) {
+            lastMessageAtRef.current = latest;
         }
+        setChatMessages(prev => {
+            const seen = new Set(prev.filter(m => !m.pending).map(m => m.id));
+            return [...prev.filter(m => !m.pending), ...incoming.filter(m => !seen.has(m.id))];
+        });
     };
 
-    const fetchManagers = async () => {
+    const fetchMessages = async () => {
         try {
-            const res = await api.get("/users");
-            setManagers(res.data.filter(u => u.role === 'MANAGER'));
+            const since = lastMessageAtRef.current;
+            const res = await api.get("/messages", { params: since ? { since } : {} });
+            mergeMessages(res.data);
         } catch (err) {
-            console.error("Failed to fetch support personnel", err);
+            console.error("Failed to fetch messages", err);
         }
     };
 
@@ -197,11 +250,16 @@ function UserDashboard() {
     const sendMessage = async () => {
         if (!newMessage.trim()) return;
 
-        const optimisticMsg = { id: Date.now(), content: newMessage, type: "sent" };
+        const optimisticMsg = { id: Date.now(), content: newMessage, type: "sent", pending: true };
         setChatMessages(prev => [...prev, optimisticMsg]);
         const currentMsg = newMessage;
         setNewMessage("");
 
+        const socket = chatSocketRef.current;
+        if (socket && socket.readyState === WebSocket.OPEN) {
+            socket.send(JSON.stringify({ content: currentMsg }));
+            return;
+        }
         try {
             await api.post("/messages", { content: currentMsg });
             fetchMessages();